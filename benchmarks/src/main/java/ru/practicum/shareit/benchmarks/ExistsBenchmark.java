@@ -0,0 +1,72 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.util.concurrent.TimeUnit;
+
+import static ru.practicum.shareit.benchmarks.SeededServer.random;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class ExistsBenchmark {
+
+    @Param({"1000"})
+    int users;
+
+    SeededServer server;
+
+    UserRepository userRepository;
+
+    ItemRepository itemRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = SeededServer.start(WebApplicationType.NONE, users);
+        userRepository = server.bean(UserRepository.class);
+        itemRepository = server.bean(ItemRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public boolean userExists() {
+        return userRepository.existsById(random(users));
+    }
+
+    @Benchmark
+    public boolean userLoaded() {
+        return userRepository.findById(random(users)).isPresent();
+    }
+
+    @Benchmark
+    public boolean ownerHasItemsExists() {
+        return itemRepository.existsByOwnerId(random(users));
+    }
+
+    @Benchmark
+    public boolean ownerHasItemsLoaded() {
+        return !itemRepository.findAllByOwnerId(random(users)).isEmpty();
+    }
+}
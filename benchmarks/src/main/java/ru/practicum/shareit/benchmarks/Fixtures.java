@@ -0,0 +1,95 @@
+package ru.practicum.shareit.benchmarks;
+
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+final class Fixtures {
+
+    static final LocalDateTime NOW = LocalDateTime.of(2024, 8, 1, 12, 0);
+
+    private Fixtures() {
+    }
+
+    static User user(final int id) {
+        final User user = new User();
+        user.setId(id);
+        user.setName("User " + id);
+        user.setEmail("user" + id + "@mail.ru");
+        return user;
+    }
+
+    static ItemRequest request(final int id, final User requestor) {
+        final ItemRequest request = new ItemRequest();
+        request.setId(id);
+        request.setDescription("Нужна дрель, чтобы повесить картины " + id);
+        request.setRequestor(requestor);
+        request.setCreated(NOW.minusDays(id % 30));
+        return request;
+    }
+
+    static Item item(final int id, final User owner, final ItemRequest request) {
+        final Item item = new Item();
+        item.setId(id);
+        item.setName("Дрель " + id);
+        item.setDescription("Ударная дрель с набором свёрл, модель " + id);
+        item.setAvailable(id % 5 != 0);
+        item.setOwner(owner);
+        item.setRequest(request);
+        return item;
+    }
+
+    static Booking booking(final int id, final Item item, final User booker) {
+        final Booking booking = new Booking();
+        booking.setId(id);
+        booking.setStart(NOW.plusHours(id));
+        booking.setEnd(NOW.plusHours(id + 2));
+        booking.setItem(item);
+        booking.setBooker(booker);
+        booking.setStatus(Status.values()[id % Status.values().length]);
+        return booking;
+    }
+
+    static Comment comment(final int id, final Item item, final User author) {
+        final Comment comment = new Comment();
+        comment.setId(id);
+        comment.setText("Отличная вещь, всем советую " + id);
+        comment.setItem(item);
+        comment.setAuthor(author);
+        comment.setCreated(NOW.minusHours(id));
+        return comment;
+    }
+
+    static List<Booking> bookings(final int size) {
+        final List<Booking> bookings = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            final User owner = user(i);
+            final Item item = item(i, owner, i % 3 == 0 ? request(i, user(i + 1)) : null);
+            bookings.add(booking(i, item, user(i + 2)));
+        }
+        return bookings;
+    }
+
+    static List<Item> items(final int size) {
+        final List<Item> items = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            items.add(item(i, user(i), i % 3 == 0 ? request(i, user(i + 1)) : null));
+        }
+        return items;
+    }
+
+    static List<Comment> comments(final Item item, final int size) {
+        final List<Comment> comments = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            comments.add(comment(item.getId() * size + i, item, user(i)));
+        }
+        return comments;
+    }
+}
@@ -0,0 +1,59 @@
+package ru.practicum.shareit.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import ru.practicum.shareit.booking.dto.BookingMapper;
+import ru.practicum.shareit.item.dto.ItemMapper;
+import ru.practicum.shareit.user.dto.UserMapper;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GatewayPayloadBenchmark {
+
+    @Param({"10", "1000"})
+    int size;
+
+    final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        final BookingMapper bookingMapper = new BookingMapper();
+        final ItemMapper itemMapper = new ItemMapper();
+        final UserMapper userMapper = new UserMapper();
+        payload = objectMapper.writeValueAsBytes(Fixtures.bookings(size).stream()
+                .map(booking -> bookingMapper.toBookingResponce(booking, userMapper.toUserDto(booking.getBooker()),
+                        itemMapper.toItemDto(booking.getItem())))
+                .toList());
+    }
+
+    @Benchmark
+    public byte[] reparse() throws IOException {
+        return objectMapper.writeValueAsBytes(objectMapper.readValue(payload, Object.class));
+    }
+
+    @Benchmark
+    public byte[] passthrough() {
+        return Arrays.copyOf(payload, payload.length);
+    }
+}
@@ -0,0 +1,98 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class ImportBenchmark {
+
+    static final int ROWS = 1000;
+
+    @Param({"1", "50"})
+    int batchSize;
+
+    SeededServer server;
+
+    ItemRepository itemRepository;
+
+    BookingRepository bookingRepository;
+
+    TransactionTemplate transactionTemplate;
+
+    User owner;
+
+    User booker;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = SeededServer.start(WebApplicationType.NONE, 2,
+                "spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize);
+        itemRepository = server.bean(ItemRepository.class);
+        bookingRepository = server.bean(BookingRepository.class);
+        transactionTemplate = server.bean(TransactionTemplate.class);
+        owner = server.bean(UserRepository.class).findById(1).orElseThrow();
+        booker = server.bean(UserRepository.class).findById(2).orElseThrow();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(2 * ROWS)
+    public List<Booking> itemsAndBookings() {
+        return transactionTemplate.execute(status -> {
+            final List<Item> items = new ArrayList<>(ROWS);
+            final List<Booking> bookings = new ArrayList<>(ROWS);
+            for (int i = 0; i < ROWS; i++) {
+                final Item item = new Item();
+                item.setName("Дрель " + i);
+                item.setDescription("Ударная дрель с набором свёрл, модель " + i);
+                item.setAvailable(true);
+                item.setOwner(owner);
+                items.add(item);
+
+                final Booking booking = new Booking();
+                booking.setStart(SeededServer.NOW.plusHours(i));
+                booking.setEnd(SeededServer.NOW.plusHours(i + 2));
+                booking.setItem(item);
+                booking.setBooker(booker);
+                booking.setStatus(Status.WAITING);
+                bookings.add(booking);
+            }
+            itemRepository.saveAll(items);
+            return bookingRepository.saveAll(bookings);
+        });
+    }
+}
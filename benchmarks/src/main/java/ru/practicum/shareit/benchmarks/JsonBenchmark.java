@@ -0,0 +1,77 @@
+package ru.practicum.shareit.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import ru.practicum.shareit.booking.dto.BookingMapper;
+import ru.practicum.shareit.booking.dto.BookingResponce;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.CommentMapper;
+import ru.practicum.shareit.item.dto.ItemMapper;
+import ru.practicum.shareit.item.dto.ItemResponce;
+import ru.practicum.shareit.user.dto.UserMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonBenchmark {
+
+    @Param({"10", "100"})
+    int size;
+
+    final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    List<BookingResponce> bookingResponces;
+
+    List<ItemResponce> itemResponces;
+
+    @Setup
+    public void setUp() {
+        final BookingMapper bookingMapper = new BookingMapper();
+        final ItemMapper itemMapper = new ItemMapper();
+        final UserMapper userMapper = new UserMapper();
+        final CommentMapper commentMapper = new CommentMapper();
+        bookingResponces = Fixtures.bookings(size).stream()
+                .map(booking -> bookingMapper.toBookingResponce(booking, userMapper.toUserDto(booking.getBooker()),
+                        itemMapper.toItemDto(booking.getItem())))
+                .toList();
+        itemResponces = Fixtures.items(size).stream()
+                .map(item -> {
+                    final List<CommentDto> comments = Fixtures.comments(item, 5).stream()
+                            .map(commentMapper::toCommentDto)
+                            .toList();
+                    final ItemResponce itemResponce = itemMapper.toItemResponce(item, comments);
+                    itemResponce.setLastBooking(Fixtures.NOW.minusDays(1));
+                    itemResponce.setNextBooking(Fixtures.NOW.plusDays(1));
+                    return itemResponce;
+                })
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] bookingResponces() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(bookingResponces);
+    }
+
+    @Benchmark
+    public byte[] itemResponces() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(itemResponces);
+    }
+}
@@ -0,0 +1,112 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.dto.BookingMapper;
+import ru.practicum.shareit.booking.dto.BookingResponce;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.CommentMapper;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemDtoResponceForIR;
+import ru.practicum.shareit.item.dto.ItemMapper;
+import ru.practicum.shareit.item.dto.ItemResponce;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.dto.ItemRequestMapper;
+import ru.practicum.shareit.request.dto.ItemRequestResponceDto;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.dto.UserMapper;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"100"})
+    int size;
+
+    final BookingMapper bookingMapper = new BookingMapper();
+
+    final ItemMapper itemMapper = new ItemMapper();
+
+    final UserMapper userMapper = new UserMapper();
+
+    final CommentMapper commentMapper = new CommentMapper();
+
+    final ItemRequestMapper itemRequestMapper = new ItemRequestMapper();
+
+    List<Booking> bookings;
+
+    List<Item> items;
+
+    List<Comment> comments;
+
+    List<ItemRequest> requests;
+
+    @Setup
+    public void setUp() {
+        bookings = Fixtures.bookings(size);
+        items = Fixtures.items(size);
+        comments = Fixtures.comments(items.getFirst(), 5);
+        requests = items.stream().map(Item::getRequest).filter(Objects::nonNull).toList();
+    }
+
+    @Benchmark
+    public List<BookingResponce> bookingResponces() {
+        return bookings.stream()
+                .map(booking -> bookingMapper.toBookingResponce(booking, userMapper.toUserDto(booking.getBooker()),
+                        itemMapper.toItemDto(booking.getItem())))
+                .toList();
+    }
+
+    @Benchmark
+    public List<ItemDto> itemDtos() {
+        return items.stream().map(itemMapper::toItemDto).toList();
+    }
+
+    @Benchmark
+    public List<ItemResponce> itemResponces() {
+        return items.stream()
+                .map(item -> itemMapper.toItemResponce(item,
+                        comments.stream().map(commentMapper::toCommentDto).toList()))
+                .toList();
+    }
+
+    @Benchmark
+    public List<CommentDto> commentDtos() {
+        return comments.stream().map(commentMapper::toCommentDto).toList();
+    }
+
+    @Benchmark
+    public List<ItemRequestResponceDto> itemRequestResponces() {
+        return requests.stream()
+                .map(request -> {
+                    final ItemRequestResponceDto dto = itemRequestMapper.toItemRequestResponceDto(request);
+                    dto.setRequestor(userMapper.toUserDto(request.getRequestor()));
+                    return dto;
+                })
+                .toList();
+    }
+
+    @Benchmark
+    public List<ItemDtoResponceForIR> itemDtosForRequests() {
+        return items.stream().map(itemMapper::toItemDtoResponceForIR).toList();
+    }
+}
@@ -0,0 +1,129 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.booking.model.Status;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+final class SeededServer {
+
+    static final int ITEMS_PER_OWNER = 10;
+
+    static final int BOOKINGS_PER_ITEM = 5;
+
+    static final int COMMENTS_PER_ITEM = 2;
+
+    static final LocalDateTime NOW = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+
+    final ConfigurableApplicationContext context;
+
+    final int users;
+
+    final int items;
+
+    final int requests;
+
+    private SeededServer(final ConfigurableApplicationContext context, final int users) {
+        this.context = context;
+        this.users = users;
+        this.items = users * ITEMS_PER_OWNER;
+        this.requests = users;
+    }
+
+    static SeededServer start(final WebApplicationType webApplicationType, final int users,
+                              final String... properties) {
+        final ConfigurableApplicationContext context = new SpringApplicationBuilder(ShareItServer.class)
+                .web(webApplicationType)
+                .profiles("ci")
+                .properties(Stream.concat(Stream.of(
+                                "server.port=0",
+                                "spring.jpa.show-sql=false",
+                                "spring.jpa.properties.hibernate.format_sql=false",
+                                "shareit.search.engine=database",
+                                "logging.level.root=WARN",
+                                "logging.level.org.springframework.transaction.interceptor=WARN",
+                                "logging.level.org.springframework.orm.jpa.JpaTransactionManager=WARN"),
+                        Stream.of(properties)).toArray(String[]::new))
+                .run();
+        final SeededServer server = new SeededServer(context, users);
+        server.seed(context.getBean(JdbcTemplate.class));
+        return server;
+    }
+
+    <T> T bean(final Class<T> type) {
+        return context.getBean(type);
+    }
+
+    int port() {
+        return Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+    }
+
+    void close() {
+        context.close();
+    }
+
+    int ownerOf(final int itemId) {
+        return (itemId - 1) % users + 1;
+    }
+
+    int bookerOf(final int itemId) {
+        return ownerOf(itemId) % users + 1;
+    }
+
+    static int random(final int bound) {
+        return ThreadLocalRandom.current().nextInt(bound) + 1;
+    }
+
+    private void seed(final JdbcTemplate jdbcTemplate) {
+        insert(jdbcTemplate, "users", "INSERT INTO users (id, name, email) VALUES (?, ?, ?)", users,
+                id -> new Object[]{id, "User " + id, "user" + id + "@mail.ru"});
+        insert(jdbcTemplate, "requests", "INSERT INTO requests (id, description, requestor_id, created) "
+                        + "VALUES (?, ?, ?, ?)", requests,
+                id -> new Object[]{id, "Нужна дрель " + id, id, timestamp(-id)});
+        insert(jdbcTemplate, "items", "INSERT INTO items (id, name, description, owner_id, is_available, request_id) "
+                        + "VALUES (?, ?, ?, ?, ?, ?)", items,
+                id -> new Object[]{id, "Дрель " + id, "Ударная дрель с набором свёрл, модель " + id, ownerOf(id),
+                        id % 5 != 0, id % 4 == 0 ? (id / 4 - 1) % requests + 1 : null});
+        insert(jdbcTemplate, "bookings", "INSERT INTO bookings (id, start_date, end_date, item_id, booker_id, status) "
+                        + "VALUES (?, ?, ?, ?, ?, ?)", items * BOOKINGS_PER_ITEM,
+                id -> {
+                    final int itemId = (id - 1) % items + 1;
+                    final int hours = (id - 1) / items * 48 - 96;
+                    return new Object[]{id, timestamp(hours), timestamp(hours + 24), itemId, bookerOf(itemId),
+                            Status.values()[id % Status.values().length].name()};
+                });
+        jdbcTemplate.update("INSERT INTO item_booking_summaries (item_id, valid_until) "
+                + "SELECT DISTINCT item_id, CURRENT_TIMESTAMP FROM bookings WHERE status = ?", Status.APPROVED.name());
+        insert(jdbcTemplate, "comments", "INSERT INTO comments (id, text, item_id, author_id, created) "
+                        + "VALUES (?, ?, ?, ?, ?)", items * COMMENTS_PER_ITEM,
+                id -> {
+                    final int itemId = (id - 1) % items + 1;
+                    return new Object[]{id, "Отличная вещь " + id, itemId, bookerOf(itemId), timestamp(-id)};
+                });
+    }
+
+    private static void insert(final JdbcTemplate jdbcTemplate, final String table, final String sql, final int rows,
+                               final IntFunction<Object[]> row) {
+        final List<Object[]> batch = new ArrayList<>(rows);
+        for (int id = 1; id <= rows; id++) {
+            batch.add(row.apply(id));
+        }
+        jdbcTemplate.batchUpdate(sql, batch);
+        jdbcTemplate.execute("ALTER SEQUENCE " + table + "_seq RESTART WITH " + (rows + 1));
+    }
+
+    private static Timestamp timestamp(final int hours) {
+        return Timestamp.valueOf(NOW.plusHours(hours));
+    }
+}
@@ -0,0 +1,100 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import ru.practicum.shareit.booking.dto.BookingResponce;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemResponce;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.dto.ItemRequestResponceDto;
+import ru.practicum.shareit.request.service.ItemRequestService;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static ru.practicum.shareit.benchmarks.SeededServer.random;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class ServiceBenchmark {
+
+    static final int PAGE = 20;
+
+    @Param({"1000"})
+    int users;
+
+    SeededServer server;
+
+    ItemService itemService;
+
+    BookingService bookingService;
+
+    ItemRequestService itemRequestService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = SeededServer.start(WebApplicationType.NONE, users);
+        itemService = server.bean(ItemService.class);
+        bookingService = server.bean(BookingService.class);
+        itemRequestService = server.bean(ItemRequestService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public ItemResponce itemByOwner() {
+        final int itemId = random(server.items);
+        return itemService.findById(server.ownerOf(itemId), itemId);
+    }
+
+    @Benchmark
+    public ItemResponce itemByUser() {
+        final int itemId = random(server.items);
+        return itemService.findById(server.bookerOf(itemId), itemId);
+    }
+
+    @Benchmark
+    public List<ItemResponce> itemsOfOwner() {
+        return itemService.getItemsByOwnerId(random(users));
+    }
+
+    @Benchmark
+    public List<BookingResponce> bookingsOfBooker() {
+        return bookingService.findAllByUserId(random(users), "all", 0, PAGE, null);
+    }
+
+    @Benchmark
+    public List<BookingResponce> bookingsOfOwner() {
+        return bookingService.findAllByOwnerId(random(users), "all", 0, PAGE, null);
+    }
+
+    @Benchmark
+    public ItemRequestResponceDto requestWithAnswers() {
+        return itemRequestService.getById(random(server.requests));
+    }
+
+    @Benchmark
+    public List<ItemDto> search() {
+        return itemService.search("дрель", 0, PAGE);
+    }
+}
@@ -0,0 +1,89 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static ru.practicum.shareit.benchmarks.SeededServer.random;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(256)
+@Fork(1)
+public class ThreadingBenchmark {
+
+    @Param({"false", "true"})
+    boolean virtualThreads;
+
+    @Param({"50"})
+    int tomcatThreads;
+
+    @Param({"1000"})
+    int users;
+
+    SeededServer server;
+
+    HttpClient client;
+
+    String baseUrl;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = SeededServer.start(WebApplicationType.SERVLET, users,
+                "spring.threads.virtual.enabled=" + virtualThreads,
+                "server.tomcat.threads.max=" + tomcatThreads);
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        baseUrl = "http://localhost:" + server.port();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        server.close();
+    }
+
+    @Benchmark
+    public int item() throws IOException, InterruptedException {
+        final int itemId = random(server.items);
+        return get("/items/" + itemId, server.ownerOf(itemId));
+    }
+
+    @Benchmark
+    public int bookingsOfBooker() throws IOException, InterruptedException {
+        return get("/bookings?state=all&from=0&size=20", random(users));
+    }
+
+    private int get(final String path, final int userId) throws IOException, InterruptedException {
+        final HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("X-Sharer-User-Id", String.valueOf(userId))
+                .GET()
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
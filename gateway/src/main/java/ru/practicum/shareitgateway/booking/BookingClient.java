@@ -3,14 +3,21 @@ package ru.practicum.shareitgateway.booking;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareitgateway.booking.dto.BookingRequest;
 import ru.practicum.shareitgateway.client.BaseClient;
+import ru.practicum.shareitgateway.client.RequestCoalescer;
+import ru.practicum.shareitgateway.client.ValidatingCache;
 
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class BookingClient extends BaseClient {
@@ -18,41 +25,89 @@ public class BookingClient extends BaseClient {
     private static final String API_PREFIX = "/bookings";
 
     @Autowired
-    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                         ClientHttpRequestFactory serverRequestFactory, AsyncTaskExecutor proxyExecutor,
+                         RequestCoalescer coalescer, ValidatingCache cache) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
+                        .requestFactory(() -> serverRequestFactory)
+                        .build(),
+                proxyExecutor,
+                coalescer,
+                cache
         );
     }
 
-    public ResponseEntity<Object> saveRequest(final Integer userId,
-                                              final BookingRequest bookingRequest) {
+    public CompletableFuture<ResponseEntity<Object>> saveRequest(final Integer userId,
+                                                                 final BookingRequest bookingRequest) {
         return post("", userId, bookingRequest);
     }
 
-    public ResponseEntity<Object> approved(final Integer userId,
-                                           final Integer bookingId,
-                                           final boolean approved) {
-        final Map<String, Object> parameters = Map.of("approved", approved);
+    public CompletableFuture<ResponseEntity<Object>> approved(final Integer userId,
+                                                              final Integer bookingId,
+                                                              final boolean approved) {
+                           final Map<String, Object> parameters = Map.of("approved", approved);
         return patch("/" + bookingId + "?approved={approved}", userId.longValue(), parameters, null);
     }
 
-    public ResponseEntity<Object> findById(final Integer userId,
-                                           final Integer bookingId) {
+    public CompletableFuture<ResponseEntity<Object>> saveRequests(final Integer userId,
+                                                                  final List<BookingRequest> bookingRequests) {
+        return post("/batch", userId, bookingRequests);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> approvedAll(final Integer userId,
+                                                                 final List<Integer> bookingIds,
+                                                                 final boolean approved) {
+        final Map<String, Object> parameters = Map.of("approved", approved);
+        return patch("/approve-batch?approved={approved}", userId.longValue(), parameters, bookingIds);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> findById(final Integer userId,
+                                                              final Integer bookingId) {
         return get("/" + bookingId, userId);
     }
 
-    public ResponseEntity<Object> findAllByUserId(final Integer userId,
-                                                  final String state) {
-        final Map<String, Object> parameters = Map.of("state", state);
-        return get("?state={state}", userId.longValue(), parameters);
+    public CompletableFuture<ResponseEntity<Object>> findAllByUserId(final Integer userId,
+                                                                     final String state,
+                                                                     final Integer from,
+                                                                     final Integer size,
+                                                                     final Integer after) {
+        final Map<String, Object> parameters = pageParameters(state, from, size, after);
+        return get(pageQuery("", size, after), userId.longValue(), parameters);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> findAllByOwnerId(final Integer userId,
+                                                                      final String state,
+                                                                      final Integer from,
+                                                                      final Integer size,
+                                                                      final Integer after) {
+        final Map<String, Object> parameters = pageParameters(state, from, size, after);
+        return get(pageQuery("/owner", size, after), userId.longValue(), parameters);
+    }
+
+    private Map<String, Object> pageParameters(final String state, final Integer from,
+                                               final Integer size, final Integer after) {
+        final Map<String, Object> parameters = new HashMap<>();
+        parameters.put("state", state);
+        parameters.put("from", from);
+        if (Objects.nonNull(size)) {
+            parameters.put("size", size);
+        }
+        if (Objects.nonNull(after)) {
+            parameters.put("after", after);
+        }
+        return parameters;
     }
 
-    public ResponseEntity<Object> findAllByOwnerId(final Integer userId,
-                                                       final String state) {
-        final Map<String, Object> parameters = Map.of("state", state);
-        return get("/owner?state={state}", userId.longValue(), parameters);
+    private String pageQuery(final String path, final Integer size, final Integer after) {
+        String query = path + "?state={state}&from={from}";
+        if (Objects.nonNull(size)) {
+            query += "&size={size}";
+        }
+        if (Objects.nonNull(after)) {
+            query += "&after={after}";
+        }
+        return query;
     }
 }
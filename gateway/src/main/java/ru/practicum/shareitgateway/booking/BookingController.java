@@ -1,7 +1,11 @@
 package ru.practicum.shareitgateway.booking;
 
 import org.springframework.http.HttpStatus;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,6 +21,9 @@ import org.springframework.web.bind.annotation.RestController;
 import lombok.RequiredArgsConstructor;
 import ru.practicum.shareitgateway.booking.dto.BookingRequest;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping(path = "/bookings")
 @RequiredArgsConstructor
@@ -27,37 +34,64 @@ public class BookingController {
 
     private static final String HEADER = "X-Sharer-User-Id";
 
+    private static final int MAX_BATCH_SIZE = 500;
+
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public ResponseEntity<Object> saveRequest(@RequestHeader(HEADER) @NotNull final Integer userId,
-                                              @RequestBody final BookingRequest bookingRequest) {
+    public CompletableFuture<ResponseEntity<Object>> saveRequest(@RequestHeader(HEADER) @NotNull final Integer userId,
+                                                                 @RequestBody final BookingRequest bookingRequest) {
         return bookingClient.saveRequest(userId, bookingRequest);
 
     }
 
+    @PostMapping("/batch")
+    public CompletableFuture<ResponseEntity<Object>> saveRequests(
+            @RequestHeader(HEADER) @NotNull final Integer userId,
+            @RequestBody @NotEmpty @Size(max = MAX_BATCH_SIZE) final List<BookingRequest> bookingRequests) {
+        return bookingClient.saveRequests(userId, bookingRequests);
+    }
+
+    @PatchMapping("/approve-batch")
+    public CompletableFuture<ResponseEntity<Object>> approvedAll(
+            @RequestHeader(HEADER) @NotNull final Integer ownerId,
+            @RequestParam final boolean approved,
+            @RequestBody @NotEmpty @Size(max = MAX_BATCH_SIZE) final List<Integer> bookingIds) {
+        return bookingClient.approvedAll(ownerId, bookingIds, approved);
+    }
+
     @PatchMapping("/{bookingId}")
-    public ResponseEntity<Object> approved(@RequestHeader(HEADER) @NotNull final Integer ownerId,
-                                    @PathVariable final Integer bookingId,
-                                    @RequestParam final boolean approved) {
+    public CompletableFuture<ResponseEntity<Object>> approved(
+            @RequestHeader(HEADER) @NotNull final Integer ownerId,
+            @PathVariable final Integer bookingId,
+            @RequestParam final boolean approved) {
         return bookingClient.approved(ownerId, bookingId, approved);
     }
 
     @GetMapping("/{bookingId}")
-    public ResponseEntity<Object> findById(@RequestHeader(HEADER) @NotNull final Integer userId,
-                                    @PathVariable final Integer bookingId) {
+    public CompletableFuture<ResponseEntity<Object>> findById(
+            @RequestHeader(HEADER) @NotNull final Integer userId,
+            @PathVariable final Integer bookingId) {
         return bookingClient.findById(userId, bookingId);
     }
 
     @GetMapping
-    public ResponseEntity<Object> findAllByUserId(@RequestHeader(HEADER) @NotNull final Integer userId,
-                                                 @RequestParam(defaultValue = "all") final String state) {
-        return bookingClient.findAllByUserId(userId, state);
+    public CompletableFuture<ResponseEntity<Object>> findAllByUserId(
+            @RequestHeader(HEADER) @NotNull final Integer userId,
+            @RequestParam(defaultValue = "all") final String state,
+            @RequestParam(defaultValue = "0") @PositiveOrZero final Integer from,
+            @RequestParam(required = false) @Positive final Integer size,
+            @RequestParam(required = false) @Positive final Integer after) {
+        return bookingClient.findAllByUserId(userId, state, from, size, after);
     }
 
     @GetMapping("/owner")
-    public ResponseEntity<Object> findAllByOwnerId(@RequestHeader(HEADER) @NotNull final Integer ownerId,
-                                                   @RequestParam(defaultValue = "all") final String state) {
-        return bookingClient.findAllByOwnerId(ownerId, state);
+    public CompletableFuture<ResponseEntity<Object>> findAllByOwnerId(
+            @RequestHeader(HEADER) @NotNull final Integer ownerId,
+            @RequestParam(defaultValue = "all") final String state,
+            @RequestParam(defaultValue = "0") @PositiveOrZero final Integer from,
+            @RequestParam(required = false) @Positive final Integer size,
+            @RequestParam(required = false) @Positive final Integer after) {
+        return bookingClient.findAllByOwnerId(ownerId, state, from, size, after);
     }
 
 }
@@ -0,0 +1,43 @@
+package ru.practicum.shareitgateway.client;
+
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Lets at most {@code limit} tasks into the delegate at a time and rejects the rest with
+ * {@link RejectedExecutionException} instead of blocking the caller, so an executor without a queue of its own
+ * (virtual threads) sheds load the same way as a bounded thread pool.
+ */
+public class BoundedTaskExecutor implements AsyncTaskExecutor {
+
+    private final Executor delegate;
+
+    private final Semaphore permits;
+
+    public BoundedTaskExecutor(Executor delegate, int limit) {
+        this.delegate = delegate;
+        this.permits = new Semaphore(limit);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (!permits.tryAcquire()) {
+            throw new RejectedExecutionException("Достигнут предел одновременных запросов к серверу");
+        }
+        try {
+            delegate.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package ru.practicum.shareitgateway.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Set;
+
+@ConfigurationProperties(prefix = "shareit-server.coalescing")
+public record CoalescingProperties(int maxInFlight,
+                                   Set<String> endpoints) {
+}
@@ -0,0 +1,72 @@
+package ru.practicum.shareitgateway.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+@Component
+public class RequestCoalescer {
+
+    static final String REQUESTS = "gateway.coalescing.requests";
+
+    static final String IN_FLIGHT = "gateway.coalescing.in.flight";
+
+    private final ConcurrentMap<Key, CompletableFuture<ResponseEntity<Object>>> inFlight = new ConcurrentHashMap<>();
+
+    private final CoalescingProperties properties;
+
+    private final MeterRegistry meterRegistry;
+
+    public RequestCoalescer(CoalescingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gaugeMapSize(IN_FLIGHT, List.of(), inFlight);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> coalesce(String endpoint, Key key,
+                                                              Supplier<CompletableFuture<ResponseEntity<Object>>> call) {
+        if (!properties.endpoints().contains(endpoint)) {
+            return call.get();
+        }
+        if (inFlight.size() >= properties.maxInFlight()) {
+            count(endpoint, "bypassed");
+            return call.get();
+        }
+        CompletableFuture<ResponseEntity<Object>> leader = new CompletableFuture<>();
+        CompletableFuture<ResponseEntity<Object>> existing = inFlight.putIfAbsent(key, leader);
+        if (existing != null) {
+            count(endpoint, "shared");
+            return existing.copy();
+        }
+        count(endpoint, "leader");
+        try {
+            call.get().whenComplete((response, error) -> {
+                inFlight.remove(key, leader);
+                if (error != null) {
+                    leader.completeExceptionally(error);
+                } else {
+                    leader.complete(response);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, leader);
+            leader.completeExceptionally(e);
+        }
+        return leader.copy();
+    }
+
+    private void count(String endpoint, String outcome) {
+        meterRegistry.counter(REQUESTS, "endpoint", endpoint, "outcome", outcome).increment();
+    }
+
+    public record Key(String path, @Nullable Long userId, @Nullable Map<String, Object> parameters) {
+    }
+}
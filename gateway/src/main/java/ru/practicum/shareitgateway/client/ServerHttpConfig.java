@@ -0,0 +1,94 @@
+package ru.practicum.shareitgateway.client;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.net.http.HttpClient;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+@EnableConfigurationProperties({ServerHttpProperties.class, CoalescingProperties.class,
+        ValidatingCacheProperties.class, StreamProperties.class})
+public class ServerHttpConfig {
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient serverHttpClient(final ServerHttpProperties properties) {
+        final PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.maxConnections())
+                .setMaxConnPerRoute(properties.maxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(properties.connectTimeout()))
+                        .setSocketTimeout(Timeout.of(properties.responseTimeout()))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(properties.acquireTimeout()))
+                        .setResponseTimeout(Timeout.of(properties.responseTimeout()))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> TimeValue.of(properties.keepAlive()))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(properties.idleTimeout()))
+                .build();
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService streamExecutor() {
+        return Executors.newCachedThreadPool(new CustomizableThreadFactory("stream-"));
+    }
+
+    @Bean
+    public HttpClient serverStreamClient(final ServerHttpProperties properties,
+                                         final ExecutorService streamExecutor) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(properties.connectTimeout())
+                .executor(streamExecutor)
+                .build();
+    }
+
+    @Bean
+    public ClientHttpRequestFactory serverRequestFactory(final CloseableHttpClient serverHttpClient) {
+        return new HttpComponentsClientHttpRequestFactory(serverHttpClient);
+    }
+
+    @Bean("proxyExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public AsyncTaskExecutor platformProxyExecutor(final ServerHttpProperties properties) {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.maxConnections());
+        executor.setMaxPoolSize(properties.maxConnections());
+        executor.setQueueCapacity(properties.queueCapacity());
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix("proxy-");
+        return executor;
+    }
+
+    @Bean("proxyExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public AsyncTaskExecutor virtualProxyExecutor(final ServerHttpProperties properties) {
+        final SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("proxy-");
+        executor.setVirtualThreads(true);
+        return new BoundedTaskExecutor(executor, properties.maxConnections() + properties.queueCapacity());
+    }
+}
@@ -0,0 +1,16 @@
+package ru.practicum.shareitgateway.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "shareit-server.http")
+public record ServerHttpProperties(int maxConnections,
+                                   int maxConnectionsPerRoute,
+                                   Duration connectTimeout,
+                                   Duration acquireTimeout,
+                                   Duration responseTimeout,
+                                   Duration keepAlive,
+                                   Duration idleTimeout,
+                                   int queueCapacity) {
+}
@@ -0,0 +1,10 @@
+package ru.practicum.shareitgateway.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "shareit-server.stream")
+public record StreamProperties(int maxStreams,
+                              Duration timeout) {
+}
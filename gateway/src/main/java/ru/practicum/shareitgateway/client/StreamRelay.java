@@ -0,0 +1,172 @@
+package ru.practicum.shareitgateway.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Relays a long-lived streaming response (e.g. {@code text/event-stream}) from the server byte for byte.
+ * Upstream reads are driven by the JDK client's selector, so an idle stream holds no thread. Each chunk is
+ * written downstream with a blocking servlet write on the stream client's own executor, bounded by the
+ * container's socket write timeout, and the next chunk is requested only after the previous one is written.
+ */
+@Component
+public class StreamRelay {
+
+    static final String OPEN_STREAMS = "gateway.stream.open";
+
+    private final HttpClient serverStreamClient;
+
+    private final String serverUrl;
+
+    private final StreamProperties properties;
+
+    private final AtomicInteger open = new AtomicInteger();
+
+    public StreamRelay(HttpClient serverStreamClient, @Value("${shareit-server.url}") String serverUrl,
+                       StreamProperties properties, MeterRegistry meterRegistry) {
+        this.serverStreamClient = serverStreamClient;
+        this.serverUrl = serverUrl;
+        this.properties = properties;
+        meterRegistry.gauge(OPEN_STREAMS, open);
+    }
+
+    public CompletableFuture<ResponseEntity<ResponseBodyEmitter>> relay(String path, @Nullable Long userId,
+                                                                        MediaType accept) {
+        if (open.incrementAndGet() > properties.maxStreams()) {
+            open.decrementAndGet();
+            return CompletableFuture.completedFuture(unavailable());
+        }
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(serverUrl + path))
+                .header(HttpHeaders.ACCEPT, accept.toString())
+                .GET();
+        if (userId != null) {
+            request.header("X-Sharer-User-Id", String.valueOf(userId));
+        }
+        return serverStreamClient.sendAsync(request.build(), HttpResponse.BodyHandlers.ofPublisher())
+                .thenApply(this::toGatewayResponse)
+                .whenComplete((response, error) -> {
+                    if (error != null) {
+                        open.decrementAndGet();
+                    }
+                });
+    }
+
+    private ResponseEntity<ResponseBodyEmitter> toGatewayResponse(
+            HttpResponse<Flow.Publisher<List<ByteBuffer>>> response) {
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(properties.timeout().toMillis());
+        ChunkSubscriber subscriber = new ChunkSubscriber(emitter);
+        emitter.onCompletion(subscriber::cancel);
+        emitter.onTimeout(subscriber::cancel);
+        emitter.onError(error -> subscriber.cancel());
+        response.body().subscribe(subscriber);
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(response.statusCode())
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache");
+        response.headers().firstValue(HttpHeaders.CONTENT_TYPE)
+                .ifPresent(contentType -> builder.header(HttpHeaders.CONTENT_TYPE, contentType));
+        return builder.body(emitter);
+    }
+
+    private ResponseEntity<ResponseBodyEmitter> unavailable() {
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter();
+        try {
+            emitter.send("{\"error\":\"Превышено число открытых потоков, повторите попытку позже\"}"
+                    .getBytes(StandardCharsets.UTF_8), MediaType.APPLICATION_JSON);
+            emitter.complete();
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(emitter);
+    }
+
+    private final class ChunkSubscriber implements Flow.Subscriber<List<ByteBuffer>> {
+
+        private final ResponseBodyEmitter emitter;
+
+        private volatile Flow.Subscription subscription;
+
+        private volatile boolean done;
+
+        private ChunkSubscriber(ResponseBodyEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (done) {
+                subscription.cancel();
+                return;
+            }
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> buffers) {
+            try {
+                for (ByteBuffer buffer : buffers) {
+                    byte[] chunk = new byte[buffer.remaining()];
+                    buffer.get(chunk);
+                    emitter.send(chunk, MediaType.APPLICATION_OCTET_STREAM);
+                }
+            } catch (IOException | IllegalStateException e) {
+                cancel();
+                return;
+            }
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (finish()) {
+                emitter.completeWithError(throwable);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (finish()) {
+                emitter.complete();
+            }
+        }
+
+        private void cancel() {
+            if (finish()) {
+                Flow.Subscription current = subscription;
+                if (current != null) {
+                    current.cancel();
+                }
+            }
+        }
+
+        private synchronized boolean finish() {
+            if (done) {
+                return false;
+            }
+            done = true;
+            open.decrementAndGet();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package ru.practicum.shareitgateway.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class ValidatingCache {
+
+    static final String REQUESTS = "gateway.validating.cache.requests";
+
+    static final String SIZE = "gateway.validating.cache.size";
+
+    private final Map<Key, Entry> entries;
+
+    private final ValidatingCacheProperties properties;
+
+    private final MeterRegistry meterRegistry;
+
+    public ValidatingCache(ValidatingCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > properties.maxEntries();
+            }
+        };
+        meterRegistry.gauge(SIZE, List.of(), this, ValidatingCache::size);
+    }
+
+    @Nullable
+    public synchronized Entry get(Key key) {
+        return entries.get(key);
+    }
+
+    public ResponseEntity<byte[]> revalidated(@Nullable Entry entry, ResponseEntity<byte[]> response) {
+        if (entry == null) {
+            count("miss");
+            return response;
+        }
+        if (response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+            count("hit");
+            return entry.response();
+        }
+        count("modified");
+        return response;
+    }
+
+    public void update(Key key, ResponseEntity<byte[]> response) {
+        String etag = response.getHeaders().getETag();
+        byte[] body = response.getBody();
+        if (response.getStatusCode() != HttpStatus.OK || etag == null || body == null
+                || body.length > properties.maxBodySize()) {
+            evict(key);
+            return;
+        }
+        synchronized (this) {
+            entries.put(key, new Entry(etag, response));
+        }
+    }
+
+    public synchronized void evict(Key key) {
+        entries.remove(key);
+    }
+
+    private synchronized int size() {
+        return entries.size();
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter(REQUESTS, "outcome", outcome).increment();
+    }
+
+    public record Key(String uri, @Nullable Long userId) {
+    }
+
+    public record Entry(String etag, ResponseEntity<byte[]> response) {
+    }
+}
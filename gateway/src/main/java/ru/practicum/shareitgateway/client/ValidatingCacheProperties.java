@@ -0,0 +1,8 @@
+package ru.practicum.shareitgateway.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "shareit-server.validating-cache")
+public record ValidatingCacheProperties(int maxEntries,
+                                        int maxBodySize) {
+}
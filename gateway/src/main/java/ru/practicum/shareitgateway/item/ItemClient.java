@@ -3,64 +3,85 @@ package ru.practicum.shareitgateway.item;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareitgateway.client.BaseClient;
+import ru.practicum.shareitgateway.client.RequestCoalescer;
+import ru.practicum.shareitgateway.client.StreamRelay;
+import ru.practicum.shareitgateway.client.ValidatingCache;
 import ru.practicum.shareitgateway.item.dto.ItemDto;
 import ru.practicum.shareitgateway.item.dto.CommentDto;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class ItemClient extends BaseClient {
 
     private static final String API_PREFIX = "/items";
 
+    private final StreamRelay streamRelay;
+
     @Autowired
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                      ClientHttpRequestFactory serverRequestFactory, AsyncTaskExecutor proxyExecutor,
+                      RequestCoalescer coalescer, ValidatingCache cache, StreamRelay streamRelay) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
+                        .requestFactory(() -> serverRequestFactory)
+                        .build(),
+                proxyExecutor,
+                coalescer,
+                cache
         );
+        this.streamRelay = streamRelay;
     }
 
-    public ResponseEntity<Object> save(final Integer ownerId,
-                                       final ItemDto itemDto) {
+    public CompletableFuture<ResponseEntity<Object>> save(final Integer ownerId,
+                                                          final ItemDto itemDto) {
         return post("", ownerId, itemDto);
     }
 
-    public ResponseEntity<Object> update(final Integer ownerId,
-                                         final Integer itemId,
-                                         final ItemDto itemDto) {
+    public CompletableFuture<ResponseEntity<Object>> update(final Integer ownerId,
+                                                            final Integer itemId,
+                                                            final ItemDto itemDto) {
         return patch("/" + ownerId, itemId, itemDto);
     }
 
-    public ResponseEntity<Object> findById(final Integer ownerId,
-                                           final Integer itemId) {
-        return get("/" + itemId, ownerId);
+    public CompletableFuture<ResponseEntity<Object>> findById(final Integer ownerId,
+                                                              final Integer itemId) {
+        return sharedGet("items.findById", "/" + itemId, Long.valueOf(ownerId));
     }
 
-    public ResponseEntity<Object> delete(final Integer itemId) {
+    public CompletableFuture<ResponseEntity<Object>> delete(final Integer itemId) {
         return delete("/" + itemId);
     }
 
-    public ResponseEntity<Object> getItemsByOwnerId(final Integer ownerId) {
+    public CompletableFuture<ResponseEntity<Object>> getItemsByOwnerId(final Integer ownerId) {
         return get("", ownerId);
     }
 
-    public ResponseEntity<Object> search(final Integer userId,
-                                         final String text) {
-        Map<String, Object> parameters = Map.of("text", text);
-        return get("/search?text={text}", Long.valueOf(userId), parameters);
+    public CompletableFuture<ResponseEntity<ResponseBodyEmitter>> streamItemsByOwnerId(final Integer ownerId) {
+        return streamRelay.relay(API_PREFIX, Long.valueOf(ownerId), MediaType.APPLICATION_NDJSON);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> search(final Integer userId,
+                                                            final String text,
+                                                            final Integer from,
+                                                            final Integer size) {
+        Map<String, Object> parameters = Map.of("text", text, "from", from, "size", size);
+        return get("/search?text={text}&from={from}&size={size}", Long.valueOf(userId), parameters);
     }
 
-    public ResponseEntity<Object> saveComment(final Integer userId,
-                                               final Integer itemId,
-                                               final CommentDto commentDto) {
+    public CompletableFuture<ResponseEntity<Object>> saveComment(final Integer userId,
+                                                                  final Integer itemId,
+                                                                  final CommentDto commentDto) {
         return post("/" + itemId + "/comment", userId, commentDto);
     }
 }
\ No newline at end of file
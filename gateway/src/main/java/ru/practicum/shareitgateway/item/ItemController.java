@@ -3,8 +3,10 @@ package ru.practicum.shareitgateway.item;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -18,10 +20,13 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 import ru.practicum.shareitgateway.item.dto.ItemDto;
 import ru.practicum.shareitgateway.item.dto.CommentDto;
 import ru.practicum.shareitgateway.group.CreateGroup;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/items")
 @RequiredArgsConstructor
@@ -34,45 +39,59 @@ public class ItemController {
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public ResponseEntity<Object> save(@RequestHeader(HEADER) @NotNull final Integer ownerId,
-                                       @Validated(CreateGroup.class) @RequestBody final ItemDto itemDto) {
+    public CompletableFuture<ResponseEntity<Object>> save(
+            @RequestHeader(HEADER) @NotNull final Integer ownerId,
+            @Validated(CreateGroup.class) @RequestBody final ItemDto itemDto) {
         return itemClient.save(ownerId, itemDto);
     }
 
     @PatchMapping("/{itemId}")
-    public ResponseEntity<Object> update(@RequestHeader(HEADER) @NotNull final Integer ownerId,
-                          @PathVariable @Positive final Integer itemId,
-                          @RequestBody final ItemDto itemDto) {
+    public CompletableFuture<ResponseEntity<Object>> update(
+            @RequestHeader(HEADER) @NotNull final Integer ownerId,
+            @PathVariable @Positive final Integer itemId,
+            @RequestBody final ItemDto itemDto) {
         return itemClient.update(ownerId, itemId, itemDto);
     }
 
     @GetMapping("/{itemId}")
-    public ResponseEntity<Object> findById(@RequestHeader(HEADER) @NotNull final Integer ownerId,
-                                 @PathVariable @Positive final Integer itemId) {
+    public CompletableFuture<ResponseEntity<Object>> findById(
+            @RequestHeader(HEADER) @NotNull final Integer ownerId,
+            @PathVariable @Positive final Integer itemId) {
         return itemClient.findById(ownerId, itemId);
     }
 
     @DeleteMapping("/{itemId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void delete(@PathVariable @Positive final Integer itemId) {
-        itemClient.delete(itemId);
+    public CompletableFuture<Void> delete(@PathVariable @Positive final Integer itemId) {
+        return itemClient.delete(itemId).thenAccept(response -> { });
     }
 
     @GetMapping
-    public ResponseEntity<Object> getItemsByOwnerId(@RequestHeader(HEADER) @NotNull final Integer ownerId) {
+    public CompletableFuture<ResponseEntity<Object>> getItemsByOwnerId(
+            @RequestHeader(HEADER) @NotNull final Integer ownerId) {
         return itemClient.getItemsByOwnerId(ownerId);
     }
 
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public CompletableFuture<ResponseEntity<ResponseBodyEmitter>> streamItemsByOwnerId(
+            @RequestHeader(HEADER) @NotNull final Integer ownerId) {
+        return itemClient.streamItemsByOwnerId(ownerId);
+    }
+
     @GetMapping("/search")
-    public ResponseEntity<Object> search(@RequestHeader(HEADER) @Positive final Integer userId,
-                                         @RequestParam final String text) {
-        return itemClient.search(userId, text);
+    public CompletableFuture<ResponseEntity<Object>> search(
+            @RequestHeader(HEADER) @Positive final Integer userId,
+            @RequestParam final String text,
+            @RequestParam(defaultValue = "0") @PositiveOrZero final Integer from,
+            @RequestParam(defaultValue = "10") @Positive final Integer size) {
+        return itemClient.search(userId, text, from, size);
     }
 
     @PostMapping("/{itemId}/comment")
-    public ResponseEntity<Object> saveComment(@RequestHeader(HEADER) @NotNull final Integer userId,
-                                  @PathVariable @NotNull final Integer itemId,
-                                  @Valid @RequestBody final CommentDto commentDto) {
+    public CompletableFuture<ResponseEntity<Object>> saveComment(
+            @RequestHeader(HEADER) @NotNull final Integer userId,
+            @PathVariable @NotNull final Integer itemId,
+            @Valid @RequestBody final CommentDto commentDto) {
         return itemClient.saveComment(userId, itemId, commentDto);
     }
 }
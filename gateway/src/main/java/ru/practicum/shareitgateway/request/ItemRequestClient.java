@@ -3,42 +3,76 @@ package ru.practicum.shareitgateway.request;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareitgateway.client.BaseClient;
+import ru.practicum.shareitgateway.client.RequestCoalescer;
+import ru.practicum.shareitgateway.client.StreamRelay;
+import ru.practicum.shareitgateway.client.ValidatingCache;
 import ru.practicum.shareitgateway.request.dto.ItemRequestDto;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
 @Service
 public class ItemRequestClient extends BaseClient {
 
     private static final String API_PREFIX = "/requests";
 
+    private final StreamRelay streamRelay;
+
     @Autowired
-    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                             ClientHttpRequestFactory serverRequestFactory, AsyncTaskExecutor proxyExecutor,
+                             RequestCoalescer coalescer, ValidatingCache cache, StreamRelay streamRelay) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
+                        .requestFactory(() -> serverRequestFactory)
+                        .build(),
+                proxyExecutor,
+                coalescer,
+                cache
         );
+        this.streamRelay = streamRelay;
     }
 
-    public ResponseEntity<Object> saveItemRequest(final Integer userId,
-                                                  final ItemRequestDto itemRequestDto) {
+    public CompletableFuture<ResponseEntity<Object>> saveItemRequest(final Integer userId,
+                                                                     final ItemRequestDto itemRequestDto) {
         return post("", userId, itemRequestDto);
     }
 
-    public ResponseEntity<Object> getAllByUser(final Integer userId) {
+    public CompletableFuture<ResponseEntity<Object>> getAllByUser(final Integer userId) {
         return get("", userId);
     }
 
-    public ResponseEntity<Object> getAll(final Integer userId) {
-        return post("/all", userId);
+    public CompletableFuture<ResponseEntity<Object>> getAll(final Integer userId, final Integer size,
+                                                            final Integer after) {
+        final Map<String, Object> parameters = new HashMap<>();
+        parameters.put("size", size);
+        if (Objects.nonNull(after)) {
+            parameters.put("after", after);
+        }
+        final String path = Objects.nonNull(after) ? "/all?size={size}&after={after}" : "/all?size={size}";
+        return sharedGet("requests.getAll", path, Long.valueOf(userId), parameters);
+    }
+
+    public CompletableFuture<ResponseEntity<ResponseBodyEmitter>> subscribe(final Integer userId) {
+        return streamRelay.relay(API_PREFIX + "/stream", Long.valueOf(userId), MediaType.TEXT_EVENT_STREAM);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> getSuggestions(final Integer requestId) {
+        return get("/" + requestId + "/suggestions");
     }
 
-    public ResponseEntity<Object> getById(final Integer requestId) {
-        return get("/" + requestId);
+    public CompletableFuture<ResponseEntity<Object>> getById(final Integer requestId) {
+        return sharedGet("requests.getById", "/" + requestId, null);
     }
 }
\ No newline at end of file
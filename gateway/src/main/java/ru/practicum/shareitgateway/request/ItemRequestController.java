@@ -1,7 +1,10 @@
 package ru.practicum.shareitgateway.request;
 
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,9 +13,13 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 import ru.practicum.shareitgateway.request.dto.ItemRequestDto;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping(path = "/requests")
 @RequiredArgsConstructor
@@ -24,23 +31,38 @@ public class ItemRequestController {
     private static final String HEADER = "X-Sharer-User-Id";
 
     @PostMapping
-    public ResponseEntity<Object> saveItemRequest(@RequestHeader(HEADER) @NotNull final Integer userId,
-                                                  @RequestBody final ItemRequestDto itemRequestDto) {
+    public CompletableFuture<ResponseEntity<Object>> saveItemRequest(
+            @RequestHeader(HEADER) @NotNull final Integer userId,
+            @RequestBody final ItemRequestDto itemRequestDto) {
         return itemRequestClient.saveItemRequest(userId, itemRequestDto);
     }
 
     @GetMapping
-    public ResponseEntity<Object> getAllByUser(@RequestHeader(HEADER) final Integer userId) {
+    public CompletableFuture<ResponseEntity<Object>> getAllByUser(@RequestHeader(HEADER) final Integer userId) {
         return itemRequestClient.getAllByUser(userId);
     }
 
     @GetMapping("/all")
-    public ResponseEntity<Object> getAll(@RequestHeader(HEADER) final Integer userId) {
-        return itemRequestClient.getAll(userId);
+    public CompletableFuture<ResponseEntity<Object>> getAll(
+            @RequestHeader(HEADER) final Integer userId,
+            @RequestParam(defaultValue = "10") @Positive @Max(100) final Integer size,
+            @RequestParam(required = false) @Positive final Integer after) {
+        return itemRequestClient.getAll(userId, size, after);
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public CompletableFuture<ResponseEntity<ResponseBodyEmitter>> subscribe(
+            @RequestHeader(HEADER) @NotNull final Integer userId) {
+        return itemRequestClient.subscribe(userId);
+    }
+
+    @GetMapping("/{requestId}/suggestions")
+    public CompletableFuture<ResponseEntity<Object>> getSuggestions(@PathVariable final Integer requestId) {
+        return itemRequestClient.getSuggestions(requestId);
     }
 
     @GetMapping("/{requestId}")
-    public ResponseEntity<Object> getById(@PathVariable final Integer requestId) {
+    public CompletableFuture<ResponseEntity<Object>> getById(@PathVariable final Integer requestId) {
         return itemRequestClient.getById(requestId);
     }
 }
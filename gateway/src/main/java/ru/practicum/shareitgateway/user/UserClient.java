@@ -3,46 +3,66 @@ package ru.practicum.shareitgateway.user;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareitgateway.client.BaseClient;
+import ru.practicum.shareitgateway.client.RequestCoalescer;
+import ru.practicum.shareitgateway.client.StreamRelay;
+import ru.practicum.shareitgateway.client.ValidatingCache;
 import ru.practicum.shareitgateway.user.dto.UserDto;
 
+import java.util.concurrent.CompletableFuture;
+
 @Service
 public class UserClient extends BaseClient {
 
     private static final String API_PREFIX = "/users";
 
+    private final StreamRelay streamRelay;
+
     @Autowired
-    public UserClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public UserClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                      ClientHttpRequestFactory serverRequestFactory, AsyncTaskExecutor proxyExecutor,
+                      RequestCoalescer coalescer, ValidatingCache cache, StreamRelay streamRelay) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
+                        .requestFactory(() -> serverRequestFactory)
+                        .build(),
+                proxyExecutor,
+                coalescer,
+                cache
         );
+        this.streamRelay = streamRelay;
     }
 
-    public ResponseEntity<Object> save(final UserDto userDto) {
+    public CompletableFuture<ResponseEntity<Object>> save(final UserDto userDto) {
         return post("", userDto);
     }
 
-    public ResponseEntity<Object> update(final Integer userId,
-                                         final UserDto userDto) {
+    public CompletableFuture<ResponseEntity<Object>> update(final Integer userId,
+                                                            final UserDto userDto) {
         return patch("/" + userId, userDto);
     }
 
-    public ResponseEntity<Object> findById(final Integer userId) {
+    public CompletableFuture<ResponseEntity<ResponseBodyEmitter>> streamAll() {
+        return streamRelay.relay(API_PREFIX, null, MediaType.APPLICATION_NDJSON);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> findById(final Integer userId) {
         return get("/" + userId);
     }
 
-    public ResponseEntity<Object> findAll() {
+    public CompletableFuture<ResponseEntity<Object>> findAll() {
         return get("");
     }
 
-    public ResponseEntity<Object> delete(final Integer userId) {
+    public CompletableFuture<ResponseEntity<Object>> delete(final Integer userId) {
         return delete("/" + userId);
     }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -16,10 +17,13 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 import jakarta.validation.constraints.Positive;
 import ru.practicum.shareitgateway.group.CreateGroup;
 import ru.practicum.shareitgateway.user.dto.UserDto;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping(path = "/users")
 @RequiredArgsConstructor
@@ -31,30 +35,37 @@ public class UserController {
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public ResponseEntity<Object> save(@Validated(CreateGroup.class) @RequestBody final UserDto userDto) {
+    public CompletableFuture<ResponseEntity<Object>> save(
+            @Validated(CreateGroup.class) @RequestBody final UserDto userDto) {
         return userClient.save(userDto);
     }
 
     @PatchMapping("/{userId}")
-    public ResponseEntity<Object> update(@PathVariable @Positive final Integer userId,
-                          @Valid @RequestBody final UserDto userDto) {
+    public CompletableFuture<ResponseEntity<Object>> update(
+            @PathVariable @Positive final Integer userId,
+            @Valid @RequestBody final UserDto userDto) {
         return userClient.update(userId, userDto);
     }
 
     @GetMapping("/{userId}")
-    public ResponseEntity<Object> findById(@PathVariable @Positive final Integer userId) {
+    public CompletableFuture<ResponseEntity<Object>> findById(@PathVariable @Positive final Integer userId) {
         return userClient.findById(userId);
     }
 
     @GetMapping
-    public ResponseEntity<Object> findAll() {
+    public CompletableFuture<ResponseEntity<Object>> findAll() {
         return userClient.findAll();
     }
 
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public CompletableFuture<ResponseEntity<ResponseBodyEmitter>> streamAll() {
+        return userClient.streamAll();
+    }
+
     @DeleteMapping("/{userId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void delete(@PathVariable @Positive final Integer userId) {
-        userClient.delete(userId);
+    public CompletableFuture<Void> delete(@PathVariable @Positive final Integer userId) {
+        return userClient.delete(userId).thenAccept(response -> { });
     }
 }
 
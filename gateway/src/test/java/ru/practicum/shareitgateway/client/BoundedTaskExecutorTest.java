@@ -0,0 +1,103 @@
+package ru.practicum.shareitgateway.client;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class BoundedTaskExecutorTest {
+
+    static final int LIMIT = 2;
+
+    final CountDownLatch release = new CountDownLatch(1);
+
+    final SimpleAsyncTaskExecutor virtualThreads = virtualThreads();
+
+    final BoundedTaskExecutor executor = new BoundedTaskExecutor(virtualThreads, LIMIT);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        virtualThreads.close();
+    }
+
+    @Test
+    @DisplayName("BoundedTaskExecutor_rejectsOverLimit")
+    void testRejectsOverLimit() throws Exception {
+
+        final CompletableFuture<?> first = CompletableFuture.runAsync(this::await, executor);
+        final CompletableFuture<?> second = CompletableFuture.runAsync(this::await, executor);
+
+        assertThrows(RejectedExecutionException.class, () -> CompletableFuture.runAsync(this::await, executor));
+
+        release.countDown();
+        CompletableFuture.allOf(first, second).get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("BoundedTaskExecutor_releasesPermitWhenTaskEnds")
+    void testReleasesPermitWhenTaskEnds() {
+
+        final BoundedTaskExecutor inline = new BoundedTaskExecutor(Runnable::run, LIMIT);
+        final AtomicInteger runs = new AtomicInteger();
+
+        for (int i = 0; i < LIMIT * 5; i++) {
+            inline.execute(runs::incrementAndGet);
+        }
+
+        assertEquals(LIMIT * 5, runs.get());
+    }
+
+    @Test
+    @DisplayName("BoundedTaskExecutor_releasesPermitWhenTaskFails")
+    void testReleasesPermitWhenTaskFails() {
+
+        final BoundedTaskExecutor inline = new BoundedTaskExecutor(Runnable::run, LIMIT);
+
+        for (int i = 0; i < LIMIT * 5; i++) {
+            assertThrows(IllegalStateException.class, () -> inline.execute(() -> {
+                throw new IllegalStateException();
+            }));
+        }
+        inline.execute(() -> { });
+    }
+
+    @Test
+    @DisplayName("BoundedTaskExecutor_releasesPermitWhenDelegateRejects")
+    void testReleasesPermitWhenDelegateRejects() {
+
+        final BoundedTaskExecutor rejecting = new BoundedTaskExecutor(task -> {
+            throw new RejectedExecutionException();
+        }, LIMIT);
+
+        for (int i = 0; i < LIMIT * 5; i++) {
+            assertThrows(RejectedExecutionException.class, () -> rejecting.execute(() -> { }));
+        }
+    }
+
+    private void await() {
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static SimpleAsyncTaskExecutor virtualThreads() {
+        final SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("proxy-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+}
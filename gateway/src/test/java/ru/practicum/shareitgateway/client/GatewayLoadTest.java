@@ -0,0 +1,123 @@
+package ru.practicum.shareitgateway.client;
+
+import com.sun.net.httpserver.HttpServer;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import ru.practicum.shareitgateway.ShareItGateway;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Slf4j
+@SpringBootTest(classes = ShareItGateway.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "server.tomcat.threads.max=" + GatewayLoadTest.TOMCAT_THREADS,
+                "shareit-server.http.max-connections=" + GatewayLoadTest.POOL_SIZE,
+                "shareit-server.http.max-connections-per-route=" + GatewayLoadTest.POOL_SIZE,
+                "shareit-server.http.queue-capacity=" + GatewayLoadTest.CONNECTIONS,
+                "logging.level.org.springframework.web.client.RestTemplate=INFO"
+        })
+@Tag("load")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class GatewayLoadTest {
+
+    static final int CONNECTIONS = 5000;
+
+    static final int TOMCAT_THREADS = 50;
+
+    static final int POOL_SIZE = 500;
+
+    static final long SERVER_DELAY_MS = 100;
+
+    static final byte[] USER = "{\"id\":1,\"name\":\"Katia\",\"email\":\"gromgrommolnia@mail.ru\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    static final AtomicInteger ACTIVE = new AtomicInteger();
+
+    static final AtomicInteger PEAK = new AtomicInteger();
+
+    static final HttpServer SERVER = startServer();
+
+    @LocalServerPort
+    int port;
+
+    @DynamicPropertySource
+    static void serverUrl(final DynamicPropertyRegistry registry) {
+        registry.add("shareit-server.url", () -> "http://localhost:" + SERVER.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopServer() {
+        SERVER.stop(0);
+    }
+
+    @Test
+    @DisplayName("Gateway_5000ConcurrentConnections")
+    void testConcurrentConnections() throws Exception {
+
+        final HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        final HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/users/1"))
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+
+        final long start = System.nanoTime();
+        final List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>(CONNECTIONS);
+        for (int i = 0; i < CONNECTIONS; i++) {
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+        }
+        CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).get(2, TimeUnit.MINUTES);
+        final long elapsed = System.nanoTime() - start;
+
+        for (final CompletableFuture<HttpResponse<String>> response : responses) {
+            assertEquals(200, response.join().statusCode());
+            assertEquals(new String(USER, StandardCharsets.UTF_8), response.join().body());
+        }
+        log.info("{} запросов за {} мс, {} запросов в секунду, максимум одновременных запросов к серверу: {}",
+                CONNECTIONS, TimeUnit.NANOSECONDS.toMillis(elapsed),
+                CONNECTIONS * TimeUnit.SECONDS.toNanos(1) / elapsed, PEAK.get());
+        assertTrue(PEAK.get() > TOMCAT_THREADS, "Потоки Tomcat блокируются на время запроса к серверу");
+        assertTrue(PEAK.get() <= POOL_SIZE, "Пул соединений к серверу превышен");
+    }
+
+    private static HttpServer startServer() {
+        final HttpServer server = ServerStub.start(CONNECTIONS);
+        server.createContext("/users", exchange -> {
+            PEAK.accumulateAndGet(ACTIVE.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(SERVER_DELAY_MS);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                ServerStub.respond(exchange, 200, USER);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                ACTIVE.decrementAndGet();
+            }
+        });
+        return server;
+    }
+}
@@ -0,0 +1,111 @@
+package ru.practicum.shareitgateway.client;
+
+import com.sun.net.httpserver.HttpServer;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import ru.practicum.shareitgateway.ShareItGateway;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = ShareItGateway.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class PassthroughTest {
+
+    static final byte[] BOOKINGS = bookings();
+
+    static final byte[] NOT_FOUND = "{\"error\" : \"Пользователя с id = {} нет.1\"}".getBytes(StandardCharsets.UTF_8);
+
+    static final HttpServer SERVER = startServer();
+
+    final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    int port;
+
+    @DynamicPropertySource
+    static void serverUrl(final DynamicPropertyRegistry registry) {
+        registry.add("shareit-server.url", () -> "http://localhost:" + SERVER.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopServer() {
+        SERVER.stop(0);
+    }
+
+    @Test
+    @DisplayName("Gateway_relaysBodyBytesAndHeaders")
+    void testRelaysBodyBytesAndHeaders() throws Exception {
+
+        final HttpResponse<byte[]> response = send("/bookings?state=all&from=0&size=10");
+
+        assertEquals(200, response.statusCode());
+        assertArrayEquals(BOOKINGS, response.body());
+        assertEquals("application/json;charset=UTF-8", response.headers().firstValue("Content-Type").orElseThrow());
+        assertEquals("\"42\"", response.headers().firstValue("ETag").orElseThrow());
+        assertTrue(response.headers().firstValue("X-Internal").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Gateway_relaysErrorBodyBytes")
+    void testRelaysErrorBodyBytes() throws Exception {
+
+        final HttpResponse<byte[]> response = send("/users/1");
+
+        assertEquals(404, response.statusCode());
+        assertArrayEquals(NOT_FOUND, response.body());
+        assertEquals("application/json", response.headers().firstValue("Content-Type").orElseThrow());
+    }
+
+    private HttpResponse<byte[]> send(final String path) throws IOException, InterruptedException {
+        final HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("X-Sharer-User-Id", "1")
+                .GET()
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static byte[] bookings() {
+        final StringBuilder json = new StringBuilder("[");
+        for (int i = 1; i <= 2000; i++) {
+            if (i > 1) {
+                json.append(", ");
+            }
+            json.append("{\"id\": ").append(i)
+                    .append(", \"start\": \"2024-08-01T12:00:00\", \"end\": \"2024-08-02T12:00:00\"")
+                    .append(", \"item\": {\"id\": ").append(i).append(", \"name\": \"Дрель\", \"available\": true}")
+                    .append(", \"booker\": {\"id\": 2, \"name\": \"Nika\"}, \"status\": \"APPROVED\", \"price\": 1.50}");
+        }
+        return json.append("]").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static HttpServer startServer() {
+        final HttpServer server = ServerStub.start(0);
+        server.createContext("/bookings", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+            exchange.getResponseHeaders().add("ETag", "\"42\"");
+            exchange.getResponseHeaders().add("X-Internal", "server");
+            ServerStub.respond(exchange, 200, BOOKINGS);
+        });
+        server.createContext("/users", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            ServerStub.respond(exchange, 404, NOT_FOUND);
+        });
+        return server;
+    }
+}
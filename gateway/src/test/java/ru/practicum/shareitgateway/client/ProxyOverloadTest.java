@@ -0,0 +1,113 @@
+package ru.practicum.shareitgateway.client;
+
+import com.sun.net.httpserver.HttpServer;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import ru.practicum.shareitgateway.ShareItGateway;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = ShareItGateway.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "shareit-server.http.max-connections=" + ProxyOverloadTest.POOL_SIZE,
+                "shareit-server.http.max-connections-per-route=" + ProxyOverloadTest.POOL_SIZE,
+                "shareit-server.http.queue-capacity=" + ProxyOverloadTest.QUEUE_CAPACITY
+        })
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ProxyOverloadTest {
+
+    static final int POOL_SIZE = 2;
+
+    static final int QUEUE_CAPACITY = 2;
+
+    static final int REQUESTS = 10;
+
+    static final byte[] USER = "{\"id\":1,\"name\":\"Katia\",\"email\":\"gromgrommolnia@mail.ru\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    static final CountDownLatch RELEASE = new CountDownLatch(1);
+
+    static final HttpServer SERVER = startServer();
+
+    @LocalServerPort
+    int port;
+
+    @DynamicPropertySource
+    static void serverUrl(final DynamicPropertyRegistry registry) {
+        registry.add("shareit-server.url", () -> "http://localhost:" + SERVER.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopServer() {
+        RELEASE.countDown();
+        SERVER.stop(0);
+    }
+
+    @Test
+    @DisplayName("Gateway_rejectsWhenProxyQueueIsFull")
+    void testRejectsWhenProxyQueueIsFull() throws Exception {
+
+        final HttpClient client = HttpClient.newHttpClient();
+        final HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/users/1"))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+
+        final List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+        }
+        final int rejected = REQUESTS - POOL_SIZE - QUEUE_CAPACITY;
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (responses.stream().filter(CompletableFuture::isDone).count() < rejected
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        RELEASE.countDown();
+        CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+
+        final long unavailable = responses.stream().map(CompletableFuture::join)
+                .filter(response -> response.statusCode() == 503)
+                .peek(response -> assertTrue(response.body().contains("error")))
+                .count();
+        final long ok = responses.stream().map(CompletableFuture::join)
+                .filter(response -> response.statusCode() == 200)
+                .count();
+        assertEquals(rejected, unavailable);
+        assertEquals(POOL_SIZE + QUEUE_CAPACITY, ok);
+    }
+
+    private static HttpServer startServer() {
+        final HttpServer server = ServerStub.start(0);
+        server.createContext("/users", exchange -> {
+            try {
+                RELEASE.await(30, TimeUnit.SECONDS);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                ServerStub.respond(exchange, 200, USER);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        return server;
+    }
+}
@@ -0,0 +1,136 @@
+package ru.practicum.shareitgateway.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class RequestCoalescerTest {
+
+    static final String ENDPOINT = "items.findById";
+
+    static final RequestCoalescer.Key KEY = new RequestCoalescer.Key("/1", 1L, null);
+
+    final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    final AtomicInteger calls = new AtomicInteger();
+
+    CompletableFuture<ResponseEntity<Object>> upstream = new CompletableFuture<>();
+
+    @Test
+    @DisplayName("RequestCoalescer_sharesConcurrentCalls")
+    void testSharesConcurrentCalls() throws Exception {
+
+        final RequestCoalescer coalescer = coalescer(100);
+        final ResponseEntity<Object> response = ResponseEntity.ok("Vase".getBytes());
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(16);
+        final List<Future<CompletableFuture<ResponseEntity<Object>>>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < 200; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return coalescer.coalesce(ENDPOINT, new RequestCoalescer.Key("/1", 1L, null), this::call);
+                }));
+            }
+            start.countDown();
+            final List<CompletableFuture<ResponseEntity<Object>>> responses = new ArrayList<>();
+            for (final Future<CompletableFuture<ResponseEntity<Object>>> future : futures) {
+                responses.add(future.get());
+            }
+            upstream.complete(response);
+            for (final CompletableFuture<ResponseEntity<Object>> future : responses) {
+                assertSame(response, future.join());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(1, calls.get());
+        assertEquals(1.0, count("leader"));
+        assertEquals(199.0, count("shared"));
+        assertEquals(0.0, meterRegistry.get(RequestCoalescer.IN_FLIGHT).gauge().value());
+    }
+
+    @Test
+    @DisplayName("RequestCoalescer_callsAgainAfterCompletion")
+    void testCallsAgainAfterCompletion() {
+
+        final RequestCoalescer coalescer = coalescer(100);
+
+        coalescer.coalesce(ENDPOINT, KEY, this::call);
+        upstream.completeExceptionally(new IllegalStateException("Сервер недоступен"));
+        upstream = new CompletableFuture<>();
+        final CompletableFuture<ResponseEntity<Object>> second = coalescer.coalesce(ENDPOINT, KEY, this::call);
+        final CompletableFuture<ResponseEntity<Object>> third =
+                coalescer.coalesce(ENDPOINT, new RequestCoalescer.Key("/1", 2L, null), this::call);
+
+        assertEquals(3, calls.get());
+        assertEquals(3.0, count("leader"));
+        second.cancel(true);
+        upstream.complete(ResponseEntity.ok().build());
+        assertEquals(200, third.join().getStatusCode().value());
+    }
+
+    @Test
+    @DisplayName("RequestCoalescer_failureSharedWithFollowers")
+    void testFailureSharedWithFollowers() {
+
+        final RequestCoalescer coalescer = coalescer(100);
+
+        final CompletableFuture<ResponseEntity<Object>> first = coalescer.coalesce(ENDPOINT, KEY, this::call);
+        final CompletableFuture<ResponseEntity<Object>> second = coalescer.coalesce(ENDPOINT, KEY, this::call);
+        upstream.completeExceptionally(new IllegalStateException("Сервер недоступен"));
+
+        assertEquals(1, calls.get());
+        assertThrows(Exception.class, first::join);
+        assertThrows(Exception.class, second::join);
+    }
+
+    @Test
+    @DisplayName("RequestCoalescer_bypassesDisabledEndpointsAndFullTable")
+    void testBypasses() {
+
+        final RequestCoalescer coalescer = coalescer(1);
+
+        coalescer.coalesce("bookings.findAllByUserId", KEY, this::call);
+        coalescer.coalesce("bookings.findAllByUserId", KEY, this::call);
+        coalescer.coalesce(ENDPOINT, KEY, this::call);
+        coalescer.coalesce(ENDPOINT, new RequestCoalescer.Key("/2", 1L, null), this::call);
+
+        assertEquals(4, calls.get());
+        assertEquals(1.0, count("leader"));
+        assertEquals(1.0, count("bypassed"));
+    }
+
+    private RequestCoalescer coalescer(final int maxInFlight) {
+        return new RequestCoalescer(new CoalescingProperties(maxInFlight, Set.of(ENDPOINT)), meterRegistry);
+    }
+
+    private CompletableFuture<ResponseEntity<Object>> call() {
+        calls.incrementAndGet();
+        return upstream;
+    }
+
+    private double count(final String outcome) {
+        return meterRegistry.get(RequestCoalescer.REQUESTS).tag("outcome", outcome).counter().count();
+    }
+}
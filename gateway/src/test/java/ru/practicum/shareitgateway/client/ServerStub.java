@@ -0,0 +1,37 @@
+package ru.practicum.shareitgateway.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.Executors;
+
+final class ServerStub {
+
+    static {
+        System.setProperty("sun.net.httpserver.maxIdleConnections", "10000");
+    }
+
+    private ServerStub() {
+    }
+
+    static HttpServer start(final int backlog) {
+        try {
+            final HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), backlog);
+            server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static void respond(final HttpExchange exchange, final int status, final byte[] body) throws IOException {
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package ru.practicum.shareitgateway.client;
+
+import com.sun.net.httpserver.HttpServer;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import ru.practicum.shareitgateway.ShareItGateway;
+
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = ShareItGateway.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class StreamRelayTest {
+
+    static final String FIRST = "id:1\nevent:request\ndata:{\"id\":1,\"description\":\"Дрель\"}\n\n";
+
+    static final String SECOND = "id:2\nevent:request\ndata:{\"id\":2,\"description\":\"Пила\"}\n\n";
+
+    static final byte[] NOT_FOUND = "{\"error\" : \"Пользователя с id = {} нет.2\"}".getBytes(StandardCharsets.UTF_8);
+
+    static final byte[] USERS = "{\"id\":1,\"name\":\"Mia\"}\n{\"id\":2,\"name\":\"Nika\"}\n"
+            .getBytes(StandardCharsets.UTF_8);
+
+    static final CountDownLatch SECOND_ALLOWED = new CountDownLatch(1);
+
+    static final HttpServer SERVER = startServer();
+
+    final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    int port;
+
+    @DynamicPropertySource
+    static void serverUrl(final DynamicPropertyRegistry registry) {
+        registry.add("shareit-server.url", () -> "http://localhost:" + SERVER.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopServer() {
+        SERVER.stop(0);
+    }
+
+    @Test
+    @DisplayName("Gateway_relaysEventsAsTheyArrive")
+    void testRelaysEventsAsTheyArrive() throws Exception {
+
+        final HttpResponse<Stream<String>> response = client.send(request(1), HttpResponse.BodyHandlers.ofLines());
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Type").orElseThrow().startsWith("text/event-stream"));
+        final Iterator<String> lines = response.body().iterator();
+        assertEquals("id:1", lines.next());
+        assertEquals("event:request", lines.next());
+        assertEquals("data:{\"id\":1,\"description\":\"Дрель\"}", lines.next());
+        assertEquals("", lines.next());
+
+        SECOND_ALLOWED.countDown();
+
+        assertEquals("id:2", lines.next());
+        assertEquals("event:request", lines.next());
+        assertEquals("data:{\"id\":2,\"description\":\"Пила\"}", lines.next());
+        assertEquals("", lines.next());
+        assertFalse(lines.hasNext());
+    }
+
+    @Test
+    @DisplayName("Gateway_relaysStreamErrorBody")
+    void testRelaysStreamErrorBody() throws Exception {
+
+        final HttpResponse<byte[]> response = client.send(request(2), HttpResponse.BodyHandlers.ofByteArray());
+
+        assertEquals(404, response.statusCode());
+        assertArrayEquals(NOT_FOUND, response.body());
+        assertEquals("application/json", response.headers().firstValue("Content-Type").orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Gateway_relaysNdjsonExport")
+    void testRelaysNdjsonExport() throws Exception {
+
+        final HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/users"))
+                .header("Accept", "application/x-ndjson")
+                .GET()
+                .build();
+        final HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+
+        assertEquals(200, response.statusCode());
+        assertArrayEquals(USERS, response.body());
+        assertEquals("application/x-ndjson", response.headers().firstValue("Content-Type").orElseThrow());
+    }
+
+    private HttpRequest request(final int userId) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/requests/stream"))
+                .header("X-Sharer-User-Id", String.valueOf(userId))
+                .GET()
+                .build();
+    }
+
+    private static HttpServer startServer() {
+        final HttpServer server = ServerStub.start(0);
+        server.createContext("/requests/stream", exchange -> {
+            if (!"1".equals(exchange.getRequestHeaders().getFirst("X-Sharer-User-Id"))) {
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                ServerStub.respond(exchange, 404, NOT_FOUND);
+                return;
+            }
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(FIRST.getBytes(StandardCharsets.UTF_8));
+                output.flush();
+                if (SECOND_ALLOWED.await(10, TimeUnit.SECONDS)) {
+                    output.write(SECOND.getBytes(StandardCharsets.UTF_8));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        server.createContext("/users", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", exchange.getRequestHeaders().getFirst("Accept"));
+            ServerStub.respond(exchange, 200, USERS);
+        });
+        return server;
+    }
+}
@@ -0,0 +1,146 @@
+package ru.practicum.shareitgateway.client;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import ru.practicum.shareitgateway.ShareItGateway;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(classes = ShareItGateway.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ValidatingCacheTest {
+
+    static final AtomicInteger VERSION = new AtomicInteger(1);
+
+    static final List<String> CONDITIONS = new CopyOnWriteArrayList<>();
+
+    static final HttpServer SERVER = startServer();
+
+    final HttpClient client = HttpClient.newHttpClient();
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @LocalServerPort
+    int port;
+
+    @DynamicPropertySource
+    static void serverUrl(final DynamicPropertyRegistry registry) {
+        registry.add("shareit-server.url", () -> "http://localhost:" + SERVER.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopServer() {
+        SERVER.stop(0);
+    }
+
+    @Test
+    @DirtiesContext
+    @DisplayName("ValidatingCache_revalidatesWithServer")
+    void testRevalidatesWithServer() throws Exception {
+
+        VERSION.set(1);
+        CONDITIONS.clear();
+
+        final HttpResponse<String> first = send("/users/1", null);
+        final HttpResponse<String> second = send("/users/1", null);
+
+        assertEquals(200, second.statusCode());
+        assertEquals(first.body(), second.body());
+        assertEquals("\"1\"", second.headers().firstValue("ETag").orElseThrow());
+        assertEquals(List.of("", "\"1\""), CONDITIONS);
+        assertEquals(1.0, count("miss"));
+        assertEquals(1.0, count("hit"));
+
+        VERSION.set(2);
+        final HttpResponse<String> third = send("/users/1", null);
+
+        assertEquals(200, third.statusCode());
+        assertEquals("{\"id\": 1, \"name\": \"Katia 2\"}", third.body());
+        assertEquals("\"2\"", third.headers().firstValue("ETag").orElseThrow());
+        assertEquals(1.0, count("modified"));
+    }
+
+    @Test
+    @DirtiesContext
+    @DisplayName("ValidatingCache_answersClientConditionalGet")
+    void testAnswersClientConditionalGet() throws Exception {
+
+        VERSION.set(5);
+
+        final HttpResponse<String> response = send("/users/1", "\"5\"");
+
+        assertEquals(304, response.statusCode());
+        assertEquals("", response.body());
+        assertEquals("\"5\"", response.headers().firstValue("ETag").orElseThrow());
+    }
+
+    @Test
+    @DirtiesContext
+    @DisplayName("ValidatingCache_keysByResource")
+    void testKeysByResource() throws Exception {
+
+        VERSION.set(1);
+
+        send("/users/1", null);
+        final HttpResponse<String> response = send("/requests/1", null);
+
+        assertEquals(404, response.statusCode());
+        assertEquals(1.0, meterRegistry.get(ValidatingCache.SIZE).gauge().value());
+    }
+
+    private double count(final String outcome) {
+        return meterRegistry.get(ValidatingCache.REQUESTS).tag("outcome", outcome).counter().count();
+    }
+
+    private HttpResponse<String> send(final String path, final String etag) throws IOException, InterruptedException {
+        final HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("X-Sharer-User-Id", "1")
+                .GET();
+        if (etag != null) {
+            request.header("If-None-Match", etag);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static HttpServer startServer() {
+        final HttpServer server = ServerStub.start(0);
+        server.createContext("/users", exchange -> {
+            final String etag = "\"" + VERSION.get() + "\"";
+            final String condition = exchange.getRequestHeaders().getFirst("If-None-Match");
+            CONDITIONS.add(condition == null ? "" : condition);
+            exchange.getResponseHeaders().add("ETag", etag);
+            if (etag.equals(condition)) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            ServerStub.respond(exchange, 200, ("{\"id\": 1, \"name\": \"Katia " + VERSION.get() + "\"}")
+                    .getBytes(StandardCharsets.UTF_8));
+        });
+        server.createContext("/requests", exchange -> ServerStub.respond(exchange, 404, new byte[0]));
+        return server;
+    }
+}
@@ -2,9 +2,13 @@ package ru.practicum.shareit;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
+@EnableCaching
+@EnableScheduling
 @SpringBootApplication
 public class ShareItServer {
 
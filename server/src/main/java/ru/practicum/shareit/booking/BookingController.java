@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
 import ru.practicum.shareit.booking.dto.BookingResponce;
 import ru.practicum.shareit.booking.dto.BookingRequest;
 import ru.practicum.shareit.booking.service.BookingService;
@@ -35,6 +36,19 @@ public class BookingController {
 
     }
 
+    @PostMapping("/batch")
+    public List<BookingBatchResult> saveRequests(@RequestHeader(HEADER) final Integer userId,
+                                                 @RequestBody final List<BookingRequest> bookingRequests) {
+        return bookingService.saveRequests(bookingRequests, userId);
+    }
+
+    @PatchMapping("/approve-batch")
+    public List<BookingBatchResult> approvedAll(@RequestHeader(HEADER) final Integer ownerId,
+                                                @RequestParam final boolean approved,
+                                                @RequestBody final List<Integer> bookingIds) {
+        return bookingService.approvedAll(ownerId, bookingIds, approved);
+    }
+
     @PatchMapping("/{bookingId}")
     public BookingResponce approved(@RequestHeader(HEADER) final Integer ownerId,
                                     @PathVariable final Integer bookingId,
@@ -50,14 +64,20 @@ public class BookingController {
 
     @GetMapping
     public List<BookingResponce> findAllByUserId(@RequestHeader(HEADER) final Integer userId,
-                                                 @RequestParam(defaultValue = "all") final String state) {
-        return bookingService.findAllByUserId(userId, state);
+                                                 @RequestParam(defaultValue = "all") final String state,
+                                                 @RequestParam(defaultValue = "0") final Integer from,
+                                                 @RequestParam(required = false) final Integer size,
+                                                 @RequestParam(required = false) final Integer after) {
+        return bookingService.findAllByUserId(userId, state, from, size, after);
     }
 
     @GetMapping("/owner")
     public List<BookingResponce> findAllByOwnerId(@RequestHeader(HEADER) final Integer ownerId,
-                                                  @RequestParam(defaultValue = "all") final String state) {
-        return bookingService.findAllByOwnerId(ownerId, state);
+                                                  @RequestParam(defaultValue = "all") final String state,
+                                                  @RequestParam(defaultValue = "0") final Integer from,
+                                                  @RequestParam(required = false) final Integer size,
+                                                  @RequestParam(required = false) final Integer after) {
+        return bookingService.findAllByOwnerId(ownerId, state, from, size, after);
     }
 
 }
@@ -0,0 +1,18 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class BookingBatchResult {
+
+    Integer index;
+
+    Integer status;
+
+    String error;
+
+    BookingResponce booking;
+}
@@ -39,4 +39,27 @@ public class BookingMapper {
 
         return bookingResponce;
     }
+
+    public BookingBatchResult toBookingBatchResult(final int index, final int status,
+                                                   final BookingResponce bookingResponce) {
+
+        final BookingBatchResult bookingBatchResult = new BookingBatchResult();
+
+        bookingBatchResult.setIndex(index);
+        bookingBatchResult.setStatus(status);
+        bookingBatchResult.setBooking(bookingResponce);
+
+        return bookingBatchResult;
+    }
+
+    public BookingBatchResult toBookingBatchResult(final int index, final int status, final String error) {
+
+        final BookingBatchResult bookingBatchResult = new BookingBatchResult();
+
+        bookingBatchResult.setIndex(index);
+        bookingBatchResult.setStatus(status);
+        bookingBatchResult.setError(error);
+
+        return bookingBatchResult;
+    }
 }
@@ -0,0 +1,12 @@
+package ru.practicum.shareit.booking.dto;
+
+import java.time.LocalDateTime;
+
+public interface BookingPeriod {
+
+    Integer getItemId();
+
+    LocalDateTime getStart();
+
+    LocalDateTime getEnd();
+}
@@ -0,0 +1,14 @@
+package ru.practicum.shareit.booking.dto;
+
+import java.time.LocalDateTime;
+
+public interface ItemBookingDates {
+
+    Integer getItemId();
+
+    LocalDateTime getLastBooking();
+
+    LocalDateTime getNextBooking();
+
+    LocalDateTime getNextEnd();
+}
@@ -0,0 +1,44 @@
+package ru.practicum.shareit.booking.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Entity
+@Table(name = "item_booking_summaries")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ItemBookingSummary {
+
+    @Id
+    @Column(name = "item_id")
+    Integer itemId;
+
+    @Column(name = "last_booking")
+    LocalDateTime lastBooking;
+
+    @Column(name = "next_booking")
+    LocalDateTime nextBooking;
+
+    @Column(name = "valid_until")
+    LocalDateTime validUntil;
+
+    public ItemBookingSummary(final Integer itemId) {
+        this.itemId = itemId;
+    }
+
+    public boolean isStale(final LocalDateTime time) {
+        return Objects.nonNull(validUntil) && !validUntil.isAfter(time);
+    }
+}
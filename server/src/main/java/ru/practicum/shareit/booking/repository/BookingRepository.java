@@ -1,46 +1,152 @@
 package ru.practicum.shareit.booking.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import ru.practicum.shareit.booking.dto.BookingPeriod;
+import ru.practicum.shareit.booking.dto.BookingTimelineEntry;
+import ru.practicum.shareit.booking.dto.ItemBookingDates;
 import ru.practicum.shareit.booking.model.Booking;
 import org.springframework.data.domain.Sort;
 import ru.practicum.shareit.booking.model.Status;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface BookingRepository extends JpaRepository<Booking, Integer> {
 
-    List<Booking> findAllByBookerId(final Integer userId, Sort sort);
-
-    List<Booking> findAllByBookerIdAndStartBeforeAndEndAfter(final Integer userId, final LocalDateTime time1,
-                                                             final LocalDateTime time2, Sort sort);
-
-    List<Booking> findAllByBookerIdAndEndBefore(final Integer userId, final LocalDateTime time, Sort sort);
-
-    List<Booking> findAllByBookerIdAndStartAfter(final Integer userId, final LocalDateTime time, Sort sort);
-
-    List<Booking> findAllByBookerIdAndStatusIs(final Integer userId, final Status status, Sort sort);
-
-    List<Booking> findAllByItemOwnerId(final Integer userId, Sort sort);
-
-    List<Booking> findAllByItemOwnerIdAndStartBeforeAndEndAfter(final Integer userId, final LocalDateTime time1,
-                                                            final LocalDateTime time2, Sort sort);
-
-    List<Booking> findAllByItemOwnerIdAndEndBefore(final Integer userId, final LocalDateTime time, Sort sort);
-
-    List<Booking> findAllByItemOwnerIdAndStartAfter(final Integer userId, final LocalDateTime time, Sort sort);
-
-    List<Booking> findAllByItemOwnerIdAndStatusIs(final Integer userId, final Status status, Sort sort);
-
-    List<Booking> findAllByBookerIdAndItemIdAndStatusEqualsAndEndIsBefore(final Integer userId,
-                                                                          final Integer itemId, final Status status,
-                                                                          final LocalDateTime time);
-
+    @Override
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    Optional<Booking> findById(final Integer bookingId);
+
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    Window<Booking> findAllByBookerId(final Integer userId, ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    Window<Booking> findAllByBookerIdAndStartBeforeAndEndAfter(final Integer userId, final LocalDateTime time1,
+                                                               final LocalDateTime time2, ScrollPosition position,
+                                                               Sort sort, Limit limit);
+
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    Window<Booking> findAllByBookerIdAndEndBefore(final Integer userId, final LocalDateTime time,
+                                                  ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    Window<Booking> findAllByBookerIdAndStartAfter(final Integer userId, final LocalDateTime time,
+                                                   ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    Window<Booking> findAllByBookerIdAndStatusIs(final Integer userId, final Status status,
+                                                 ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    Window<Booking> findAllByItemOwnerId(final Integer userId, ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    Window<Booking> findAllByItemOwnerIdAndStartBeforeAndEndAfter(final Integer userId, final LocalDateTime time1,
+                                                                  final LocalDateTime time2, ScrollPosition position,
+                                                                  Sort sort, Limit limit);
+
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    Window<Booking> findAllByItemOwnerIdAndEndBefore(final Integer userId, final LocalDateTime time,
+                                                     ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    Window<Booking> findAllByItemOwnerIdAndStartAfter(final Integer userId, final LocalDateTime time,
+                                                      ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    Window<Booking> findAllByItemOwnerIdAndStatusIs(final Integer userId, final Status status,
+                                                    ScrollPosition position, Sort sort, Limit limit);
+
+    boolean existsByItemIdAndStatusInAndStartBeforeAndEndAfter(final Integer itemId,
+                                                               final Collection<Status> statuses,
+                                                               final LocalDateTime end,
+                                                               final LocalDateTime start);
+
+    @Query("""
+            SELECT b.item.id AS itemId, b.start AS start, b.end AS end
+            FROM Booking b
+            WHERE b.item.id IN :itemIds
+                AND b.status IN :statuses
+                AND b.start < :end
+                AND b.end > :start
+            """)
+    List<BookingPeriod> findPeriods(final Collection<Integer> itemIds, final Collection<Status> statuses,
+                                    final LocalDateTime end, final LocalDateTime start);
+
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    List<Booking> findAllByIdIn(final Collection<Integer> bookingIds);
+
+    @Query("""
+            SELECT b.id AS id, b.booker.id AS userId, b.start AS start, b.end AS end, b.status AS status
+            FROM Booking b
+            WHERE b.booker.id = :userId
+            """)
+    List<BookingTimelineEntry> findTimelineByBookerId(final Integer userId);
+
+    @Query("""
+            SELECT b.id AS id, b.item.owner.id AS userId, b.start AS start, b.end AS end, b.status AS status
+            FROM Booking b
+            WHERE b.item.owner.id = :ownerId
+            """)
+    List<BookingTimelineEntry> findTimelineByItemOwnerId(final Integer ownerId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            SELECT b.id AS id, b.booker.id AS userId, b.start AS start, b.end AS end, b.status AS status
+            FROM Booking b
+            ORDER BY b.booker.id
+            """)
+    Stream<BookingTimelineEntry> streamBookerTimelines();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            SELECT b.id AS id, b.item.owner.id AS userId, b.start AS start, b.end AS end, b.status AS status
+            FROM Booking b
+            ORDER BY b.item.owner.id
+            """)
+    Stream<BookingTimelineEntry> streamOwnerTimelines();
+
+    @Query("SELECT DISTINCT b.booker.id FROM Booking b WHERE b.item.id = :itemId")
+    List<Integer> findBookerIdsByItemId(final Integer itemId);
+
+    @Query("SELECT b.start FROM Booking b WHERE b.id = :bookingId AND b.booker.id = :bookerId")
+    Optional<LocalDateTime> findStartByIdAndBookerId(final Integer bookingId, final Integer bookerId);
+
+    @Query("SELECT b.start FROM Booking b WHERE b.id = :bookingId AND b.item.owner.id = :ownerId")
+    Optional<LocalDateTime> findStartByIdAndOwnerId(final Integer bookingId, final Integer ownerId);
+
+    boolean existsByBookerIdAndItemIdAndStatusAndEndBefore(final Integer userId, final Integer itemId,
+                                                           final Status status, final LocalDateTime time);
+
+    @EntityGraph(Booking.DETAILS_GRAPH)
     Optional<Booking> findTopByItemIdAndEndBeforeAndStatusInOrderByEndDesc(final Integer itemId,
                                                          final LocalDateTime time, final List<Status> status);
 
+    @EntityGraph(Booking.DETAILS_GRAPH)
     Optional<Booking> findTopByItemIdAndStartAfterAndStatusInOrderByStartAsc(final Integer itemId,
                                                                    final LocalDateTime time, final List<Status> status);
 
+    @Query("""
+            SELECT b.item.id AS itemId,
+                MAX(CASE WHEN b.end < :time THEN b.end END) AS lastBooking,
+                MIN(CASE WHEN b.start > :time THEN b.start END) AS nextBooking,
+                MIN(CASE WHEN b.end > :time THEN b.end END) AS nextEnd
+            FROM Booking b
+            WHERE b.item.id IN :itemIds
+                AND b.status = :status
+            GROUP BY b.item.id
+            """)
+    List<ItemBookingDates> findBookingDates(final Collection<Integer> itemIds, final LocalDateTime time,
+                                            final Status status);
 }
@@ -0,0 +1,24 @@
+package ru.practicum.shareit.booking.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import ru.practicum.shareit.booking.model.ItemBookingSummary;
+import ru.practicum.shareit.booking.model.Status;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ItemBookingSummaryRepository extends JpaRepository<ItemBookingSummary, Integer> {
+
+    List<ItemBookingSummary> findAllByValidUntilLessThanEqualOrderByValidUntil(final LocalDateTime time,
+                                                                               final Limit limit);
+
+    @Modifying
+    @Query("""
+            UPDATE ItemBookingSummary s SET s.validUntil = :time
+            WHERE s.itemId IN (SELECT b.item.id FROM Booking b WHERE b.booker.id = :userId AND b.status = :status)
+            """)
+    void expireByBooker(final Integer userId, final Status status, final LocalDateTime time);
+}
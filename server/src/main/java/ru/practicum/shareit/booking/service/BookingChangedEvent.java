@@ -0,0 +1,9 @@
+package ru.practicum.shareit.booking.service;
+
+import ru.practicum.shareit.booking.model.Status;
+
+import java.time.LocalDateTime;
+
+public record BookingChangedEvent(Integer bookingId, Integer bookerId, Integer ownerId,
+                                  LocalDateTime start, LocalDateTime end, Status status) {
+}
@@ -0,0 +1,15 @@
+package ru.practicum.shareit.booking.service;
+
+import org.springframework.data.domain.ScrollPosition;
+import ru.practicum.shareit.booking.model.Booking;
+
+import java.util.List;
+
+public interface BookingFinder {
+
+    List<Booking> findAllByBookerId(final Integer userId, final String state,
+                                    final ScrollPosition position, final int size);
+
+    List<Booking> findAllByOwnerId(final Integer ownerId, final String state,
+                                   final ScrollPosition position, final int size);
+}
@@ -1,5 +1,6 @@
 package ru.practicum.shareit.booking.service;
 
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
 import ru.practicum.shareit.booking.dto.BookingRequest;
 import ru.practicum.shareit.booking.dto.BookingResponce;
 
@@ -9,11 +10,18 @@ public interface BookingService {
 
     BookingResponce saveRequest(final BookingRequest bookingRequest, final Integer userId);
 
+    List<BookingBatchResult> saveRequests(final List<BookingRequest> bookingRequests, final Integer userId);
+
     BookingResponce approved(final Integer ownerId, final Integer bookingId, final boolean approved);
 
+    List<BookingBatchResult> approvedAll(final Integer ownerId, final List<Integer> bookingIds,
+                                         final boolean approved);
+
     BookingResponce findById(final Integer userId, final Integer bookingId);
 
-    List<BookingResponce> findAllByUserId(final Integer userId, final String state);
+    List<BookingResponce> findAllByUserId(final Integer userId, final String state,
+                                          final Integer from, final Integer size, final Integer after);
 
-    List<BookingResponce> findAllByOwnerId(final Integer ownerId, final String state);
+    List<BookingResponce> findAllByOwnerId(final Integer ownerId, final String state,
+                                           final Integer from, final Integer size, final Integer after);
 }
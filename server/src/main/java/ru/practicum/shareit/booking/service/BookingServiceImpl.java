@@ -4,26 +4,42 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
 import ru.practicum.shareit.booking.dto.BookingMapper;
+import ru.practicum.shareit.booking.dto.BookingPeriod;
 import ru.practicum.shareit.booking.dto.BookingRequest;
 import ru.practicum.shareit.booking.dto.BookingResponce;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.exception.ConflictException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.exception.ValidationException;
+import ru.practicum.shareit.guard.EntityGuard;
 import ru.practicum.shareit.item.dto.ItemMapper;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.user.dto.UserMapper;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.ScrollPosition;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -44,7 +60,19 @@ public class BookingServiceImpl implements BookingService {
 
     ItemMapper itemMapper;
 
-    final Sort sort = Sort.by(Sort.Direction.DESC, "start");
+    ItemLocks itemLocks;
+
+    ItemBookingSummaries itemBookingSummaries;
+
+    BookingFinder bookingFinder;
+
+    ApplicationEventPublisher eventPublisher;
+
+    EntityGuard entityGuard;
+
+    static final int MAX_BATCH_SIZE = 500;
+
+    static final List<Status> ACTIVE_STATUSES = List.of(Status.WAITING, Status.APPROVED);
 
     @Override
     @Transactional
@@ -54,42 +82,156 @@ public class BookingServiceImpl implements BookingService {
                 .orElseThrow(() -> new NotFoundException("Пользователя с id = {} нет." + userId));
         final Item item = itemRepository.findById(bookingRequest.getItemId())
                 .orElseThrow(() -> new NotFoundException("Вещь с id = {} нет." + bookingRequest.getItemId()));
-        if (!item.getAvailable()) {
-            throw new ValidationException("Вещь не доступена для бронирования.");
+        checkRequest(bookingRequest, item);
+        itemLocks.lockUntilCompletion(item.getId());
+        if (bookingRepository.existsByItemIdAndStatusInAndStartBeforeAndEndAfter(item.getId(),
+                ACTIVE_STATUSES, bookingRequest.getEnd(), bookingRequest.getStart())) {
+            throw new ConflictException("Вещь с id = " + item.getId() + " уже забронирована на эти даты");
         }
-        if (bookingRequest.getStart().isAfter(bookingRequest.getEnd())
-                || bookingRequest.getStart().isEqual(bookingRequest.getEnd())) {
-            throw new ValidationException("Дата окончания бронирования не может быть раньше или равна дате начала");
+        final Booking booking;
+        try {
+            booking = bookingRepository.saveAndFlush(bookingMapper.toBooking(bookingRequest, user, item));
+        } catch (DataIntegrityViolationException exception) {
+            throw new ConflictException("Вещь с id = " + item.getId() + " уже забронирована на эти даты");
         }
-        final Booking booking = bookingRepository.save(bookingMapper.toBooking(bookingRequest, user, item));
+        eventPublisher.publishEvent(toChangedEvent(booking));
         log.info("Запрос на бронирование вещи с id {} успешно сохранен", bookingRequest.getItemId());
         return bookingMapper.toBookingResponce(booking, userMapper.toUserDto(user), itemMapper.toItemDto(item));
     }
 
+    @Override
+    @Transactional
+    public List<BookingBatchResult> saveRequests(final List<BookingRequest> bookingRequests, final Integer userId) {
+        log.info("Пакетный запрос на бронирование {} вещей", bookingRequests.size());
+        checkBatchSize(bookingRequests.size());
+        final User user = userRepository.findById(userId)
+                .orElseThrow(() -> new NotFoundException("Пользователя с id = {} нет." + userId));
+        final Map<Integer, Item> items = itemRepository.findAllById(bookingRequests.stream()
+                        .filter(Objects::nonNull)
+                        .map(BookingRequest::getItemId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        final BookingBatchResult[] results = new BookingBatchResult[bookingRequests.size()];
+        final List<Integer> checked = new ArrayList<>();
+        for (int index = 0; index < bookingRequests.size(); index++) {
+            final BookingRequest bookingRequest = bookingRequests.get(index);
+            try {
+                if (bookingRequest == null || bookingRequest.getItemId() == null
+                        || bookingRequest.getStart() == null || bookingRequest.getEnd() == null) {
+                    throw new ValidationException("Не указаны вещь или даты бронирования");
+                }
+                final Item item = items.get(bookingRequest.getItemId());
+                if (item == null) {
+                    throw new NotFoundException("Вещь с id = {} нет." + bookingRequest.getItemId());
+                }
+                checkRequest(bookingRequest, item);
+                checked.add(index);
+            } catch (NotFoundException | ValidationException exception) {
+                results[index] = toFailure(index, exception);
+            }
+        }
+        if (!checked.isEmpty()) {
+            final Set<Integer> itemIds = checked.stream()
+                    .map(index -> bookingRequests.get(index).getItemId())
+                    .collect(Collectors.toSet());
+            itemLocks.lockAllUntilCompletion(itemIds);
+            final LocalDateTime start = checked.stream()
+                    .map(index -> bookingRequests.get(index).getStart())
+                    .min(Comparator.naturalOrder())
+                    .orElseThrow();
+            final LocalDateTime end = checked.stream()
+                    .map(index -> bookingRequests.get(index).getEnd())
+                    .max(Comparator.naturalOrder())
+                    .orElseThrow();
+            final Map<Integer, List<Period>> periods = bookingRepository
+                    .findPeriods(itemIds, ACTIVE_STATUSES, end, start).stream()
+                    .collect(Collectors.groupingBy(BookingPeriod::getItemId, Collectors.mapping(
+                            period -> new Period(period.getStart(), period.getEnd()), Collectors.toList())));
+            final List<Integer> accepted = new ArrayList<>();
+            final List<Booking> bookings = new ArrayList<>();
+            for (final Integer index : checked) {
+                final BookingRequest bookingRequest = bookingRequests.get(index);
+                final Period period = new Period(bookingRequest.getStart(), bookingRequest.getEnd());
+                final List<Period> taken = periods.computeIfAbsent(bookingRequest.getItemId(),
+                        itemId -> new ArrayList<>());
+                if (taken.stream().anyMatch(period::overlaps)) {
+                    results[index] = toFailure(index, new ConflictException("Вещь с id = "
+                            + bookingRequest.getItemId() + " уже забронирована на эти даты"));
+                    continue;
+                }
+                taken.add(period);
+                accepted.add(index);
+                bookings.add(bookingMapper.toBooking(bookingRequest, user, items.get(bookingRequest.getItemId())));
+            }
+            try {
+                bookingRepository.saveAllAndFlush(bookings);
+            } catch (DataIntegrityViolationException exception) {
+                throw new ConflictException("Одна из вещей уже забронирована на эти даты");
+            }
+            bookings.forEach(booking -> eventPublisher.publishEvent(toChangedEvent(booking)));
+            for (int i = 0; i < accepted.size(); i++) {
+                results[accepted.get(i)] = toResult(accepted.get(i), HttpStatus.CREATED, bookings.get(i));
+            }
+        }
+        log.info("Пакетный запрос на бронирование обработан");
+        return Arrays.asList(results);
+    }
+
     @Override
     @Transactional
     public BookingResponce approved(final Integer ownerId, final Integer bookingId, final boolean approved) {
         log.info("Запрос на подтверждение бронирование вещи с id " + bookingId);
         final Booking booking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new NotFoundException("Такого запроса на бронирование не было"));
-        if (!ownerId.equals(booking.getItem().getOwner().getId())) {
-            throw new ValidationException("Подтвердить бронирование может только владелец вещи");
-        }
-        if (!booking.getStatus().equals(Status.WAITING)) {
-            throw new ValidationException("Нельзя подтверждать бронирование" +
-                    " если оно не находится в ожидании подтвержления");
-        }
+        approve(ownerId, booking, approved);
+        final Booking updateBooking = bookingRepository.save(booking);
         if (approved) {
-            booking.setStatus(Status.APPROVED);
-        } else {
-            booking.setStatus(Status.REJECTED);
+            itemRepository.incrementViewVersion(booking.getItem().getId());
+            itemBookingSummaries.applyApproved(List.of(booking), LocalDateTime.now());
         }
-        final Booking updateBooking = bookingRepository.save(booking);
         log.info("Выполнен запрос на подтверждение бронирование вещи с id " + bookingId);
         return bookingMapper.toBookingResponce(updateBooking,
                 userMapper.toUserDto(booking.getBooker()), itemMapper.toItemDto(booking.getItem()));
     }
 
+    @Override
+    @Transactional
+    public List<BookingBatchResult> approvedAll(final Integer ownerId, final List<Integer> bookingIds,
+                                                final boolean approved) {
+        log.info("Пакетный запрос на подтверждение {} бронирований", bookingIds.size());
+        checkBatchSize(bookingIds.size());
+        final Map<Integer, Booking> bookings = bookingRepository.findAllByIdIn(bookingIds.stream()
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Booking::getId, Function.identity()));
+        final List<BookingBatchResult> results = new ArrayList<>(bookingIds.size());
+        final List<Booking> approvedBookings = new ArrayList<>();
+        for (int index = 0; index < bookingIds.size(); index++) {
+            final Booking booking = bookings.get(bookingIds.get(index));
+            try {
+                if (booking == null) {
+                    throw new NotFoundException("Такого запроса на бронирование не было");
+                }
+                approve(ownerId, booking, approved);
+                if (approved) {
+                    approvedBookings.add(booking);
+                }
+                results.add(toResult(index, HttpStatus.OK, booking));
+            } catch (NotFoundException | ValidationException exception) {
+                results.add(toFailure(index, exception));
+            }
+        }
+        if (!approvedBookings.isEmpty()) {
+            itemRepository.incrementViewVersions(approvedBookings.stream()
+                    .map(booking -> booking.getItem().getId())
+                    .collect(Collectors.toSet()));
+            itemBookingSummaries.applyApproved(approvedBookings, LocalDateTime.now());
+        }
+        log.info("Пакетный запрос на подтверждение бронирований обработан");
+        return results;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public BookingResponce findById(final Integer userId, final Integer bookingId) {
@@ -107,20 +249,13 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<BookingResponce> findAllByUserId(final Integer userId, final String state) {
+    public List<BookingResponce> findAllByUserId(final Integer userId, final String state,
+                                                 final Integer from, final Integer size, final Integer after) {
         log.info("Запрос на получение всех бронирований пользователя с id " + userId);
-        userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("Пользователя с id = {} нет." + userId));
-        final List<Booking> bookings = switch (state) {
-            case "all" -> bookingRepository.findAllByBookerId(userId, sort);
-            case "CURRENT" -> bookingRepository.findAllByBookerIdAndStartBeforeAndEndAfter(userId,
-                    LocalDateTime.now(), LocalDateTime.now(), sort);
-            case "PAST" -> bookingRepository.findAllByBookerIdAndEndBefore(userId, LocalDateTime.now(), sort);
-            case "FUTURE" -> bookingRepository.findAllByBookerIdAndStartAfter(userId, LocalDateTime.now(), sort);
-            case "WAITING" -> bookingRepository.findAllByBookerIdAndStatusIs(userId, Status.WAITING, sort);
-            case "REJECTED" -> bookingRepository.findAllByBookerIdAndStatusIs(userId, Status.REJECTED, sort);
-            default -> throw new ValidationException("Неверно передан параметр state");
-        };
+        entityGuard.requireUser(userId);
+        final ScrollPosition position = toScrollPosition(from, size, after,
+                () -> bookingRepository.findStartByIdAndBookerId(after, userId));
+        final List<Booking> bookings = bookingFinder.findAllByBookerId(userId, state, position, pageSize(size));
         return bookings.stream()
                 .map(booking -> bookingMapper.toBookingResponce(booking,
                         userMapper.toUserDto(booking.getBooker()), itemMapper.toItemDto(booking.getItem())))
@@ -129,26 +264,95 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<BookingResponce> findAllByOwnerId(final Integer ownerId, final String state) {
+    public List<BookingResponce> findAllByOwnerId(final Integer ownerId, final String state,
+                                                  final Integer from, final Integer size, final Integer after) {
         log.info("Запрос на получение всех забронированных вещей пользователя с id " + ownerId);
-        userRepository.findById(ownerId)
-                .orElseThrow(() -> new NotFoundException("Пользователя с id = {} нет." + ownerId));
-        if (itemRepository.findAllByOwnerId(ownerId).isEmpty()) {
-            throw new ValidationException("у пользователя пока нет вещей");
-        }
-        final List<Booking> bookings = switch (state) {
-            case "all" -> bookingRepository.findAllByItemOwnerId(ownerId, sort);
-            case "CURRENT" -> bookingRepository.findAllByItemOwnerIdAndStartBeforeAndEndAfter(ownerId,
-                    LocalDateTime.now(), LocalDateTime.now(), sort);
-            case "PAST" -> bookingRepository.findAllByItemOwnerIdAndEndBefore(ownerId, LocalDateTime.now(), sort);
-            case "FUTURE" -> bookingRepository.findAllByItemOwnerIdAndStartAfter(ownerId, LocalDateTime.now(), sort);
-            case "WAITING" -> bookingRepository.findAllByItemOwnerIdAndStatusIs(ownerId, Status.WAITING, sort);
-            case "REJECTED" -> bookingRepository.findAllByItemOwnerIdAndStatusIs(ownerId, Status.REJECTED, sort);
-            default -> throw new ValidationException("Неверно передан параметр state");
-        };
+        entityGuard.requireUser(ownerId);
+        entityGuard.requireItems(ownerId);
+        final ScrollPosition position = toScrollPosition(from, size, after,
+                () -> bookingRepository.findStartByIdAndOwnerId(after, ownerId));
+        final List<Booking> bookings = bookingFinder.findAllByOwnerId(ownerId, state, position, pageSize(size));
         return bookings.stream()
                 .map(booking -> bookingMapper.toBookingResponce(booking,
                         userMapper.toUserDto(booking.getBooker()), itemMapper.toItemDto(booking.getItem())))
                 .collect(Collectors.toList());
     }
+
+    private void checkRequest(final BookingRequest bookingRequest, final Item item) {
+        if (!item.getAvailable()) {
+            throw new ValidationException("Вещь не доступена для бронирования.");
+        }
+        if (bookingRequest.getStart().isAfter(bookingRequest.getEnd())
+                || bookingRequest.getStart().isEqual(bookingRequest.getEnd())) {
+            throw new ValidationException("Дата окончания бронирования не может быть раньше или равна дате начала");
+        }
+    }
+
+    private void approve(final Integer ownerId, final Booking booking, final boolean approved) {
+        if (!ownerId.equals(booking.getItem().getOwner().getId())) {
+            throw new ValidationException("Подтвердить бронирование может только владелец вещи");
+        }
+        if (!booking.getStatus().equals(Status.WAITING)) {
+            throw new ValidationException("Нельзя подтверждать бронирование" +
+                    " если оно не находится в ожидании подтвержления");
+        }
+        if (approved) {
+            booking.setStatus(Status.APPROVED);
+        } else {
+            booking.setStatus(Status.REJECTED);
+        }
+        eventPublisher.publishEvent(toChangedEvent(booking));
+    }
+
+    private BookingChangedEvent toChangedEvent(final Booking booking) {
+        return new BookingChangedEvent(booking.getId(), booking.getBooker().getId(),
+                booking.getItem().getOwner().getId(), booking.getStart(), booking.getEnd(), booking.getStatus());
+    }
+
+    private void checkBatchSize(final int size) {
+        if (size == 0 || size > MAX_BATCH_SIZE) {
+            throw new ValidationException("В пакете должно быть от 1 до " + MAX_BATCH_SIZE + " записей");
+        }
+    }
+
+    private BookingBatchResult toResult(final int index, final HttpStatus status, final Booking booking) {
+        return bookingMapper.toBookingBatchResult(index, status.value(), bookingMapper.toBookingResponce(booking,
+                userMapper.toUserDto(booking.getBooker()), itemMapper.toItemDto(booking.getItem())));
+    }
+
+    private BookingBatchResult toFailure(final int index, final RuntimeException exception) {
+        final HttpStatus status = switch (exception) {
+            case NotFoundException notFound -> HttpStatus.NOT_FOUND;
+            case ConflictException conflict -> HttpStatus.CONFLICT;
+            default -> HttpStatus.BAD_REQUEST;
+        };
+        return bookingMapper.toBookingBatchResult(index, status.value(), exception.getMessage());
+    }
+
+    private record Period(LocalDateTime start, LocalDateTime end) {
+
+        boolean overlaps(final Period other) {
+            return start.isBefore(other.end) && end.isAfter(other.start);
+        }
+    }
+
+    private ScrollPosition toScrollPosition(final Integer from, final Integer size, final Integer after,
+                                            final Supplier<Optional<LocalDateTime>> cursorStart) {
+        if (from < 0 || Objects.nonNull(size) && size <= 0) {
+            throw new ValidationException("Параметр from не может быть отрицательным, а size должен быть больше 0");
+        }
+        if (Objects.nonNull(after)) {
+            final LocalDateTime start = cursorStart.get()
+                    .orElseThrow(() -> new NotFoundException("Бронирования с id = {} нет." + after));
+            return ScrollPosition.forward(Map.of("start", start, "id", after));
+        }
+        return from == 0 ? ScrollPosition.offset() : ScrollPosition.offset(from - 1);
+    }
+
+    /**
+     * Listings without a size keep returning every booking, as they did before paging was added.
+     */
+    private static int pageSize(final Integer size) {
+        return Objects.isNull(size) ? Integer.MAX_VALUE : size;
+    }
 }
@@ -0,0 +1,154 @@
+package ru.practicum.shareit.booking.service;
+
+import ru.practicum.shareit.booking.dto.BookingTimelineEntry;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.exception.ValidationException;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntPredicate;
+
+final class BookingTimeline {
+
+    private final int[] ids;
+
+    private final long[] starts;
+
+    private final long[] ends;
+
+    private final byte[] statuses;
+
+    private BookingTimeline(final int[] ids, final long[] starts, final long[] ends, final byte[] statuses) {
+        this.ids = ids;
+        this.starts = starts;
+        this.ends = ends;
+        this.statuses = statuses;
+    }
+
+    static BookingTimeline of(final List<BookingTimelineEntry> entries) {
+        final List<BookingTimelineEntry> sorted = new ArrayList<>(entries);
+        sorted.sort(Comparator.comparing(BookingTimelineEntry::getStart)
+                .thenComparing(BookingTimelineEntry::getId)
+                .reversed());
+        final int size = sorted.size();
+        final BookingTimeline timeline = new BookingTimeline(new int[size], new long[size], new long[size],
+                new byte[size]);
+        for (int i = 0; i < size; i++) {
+            final BookingTimelineEntry entry = sorted.get(i);
+            timeline.set(i, entry.getId(), key(entry.getStart()), key(entry.getEnd()), entry.getStatus());
+        }
+        return timeline;
+    }
+
+    static long key(final LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    BookingTimeline with(final int id, final long start, final long end, final Status status) {
+        final int existing = indexOf(id);
+        if (existing >= 0) {
+            final BookingTimeline timeline = copy(ids.length);
+            timeline.statuses[existing] = (byte) status.ordinal();
+            return timeline;
+        }
+        final int position = lowerBound(i -> starts[i] < start || starts[i] == start && ids[i] < id);
+        final BookingTimeline timeline = new BookingTimeline(new int[ids.length + 1], new long[ids.length + 1],
+                new long[ids.length + 1], new byte[ids.length + 1]);
+        copyRange(this, 0, timeline, 0, position);
+        copyRange(this, position, timeline, position + 1, ids.length - position);
+        timeline.set(position, id, start, end, status);
+        return timeline;
+    }
+
+    List<Integer> find(final String state, final long now, final long afterStart, final Integer afterId,
+                       final int offset, final int limit) {
+        int from = 0;
+        int to = ids.length;
+        IntPredicate matches = i -> true;
+        switch (state) {
+            case "all" -> {
+            }
+            case "CURRENT" -> {
+                from = lowerBound(i -> starts[i] < now);
+                matches = i -> ends[i] > now;
+            }
+            case "PAST" -> {
+                from = lowerBound(i -> starts[i] < now);
+                matches = i -> ends[i] < now;
+            }
+            case "FUTURE" -> to = lowerBound(i -> starts[i] <= now);
+            case "WAITING" -> matches = i -> statuses[i] == Status.WAITING.ordinal();
+            case "REJECTED" -> matches = i -> statuses[i] == Status.REJECTED.ordinal();
+            default -> throw new ValidationException("Неверно передан параметр state");
+        }
+        if (Objects.nonNull(afterId)) {
+            from = Math.max(from, lowerBound(i -> starts[i] < afterStart
+                    || starts[i] == afterStart && ids[i] < afterId));
+        }
+        final List<Integer> found = new ArrayList<>(Math.min(limit, Math.max(to - from, 0)));
+        int skip = offset;
+        for (int i = from; i < to && found.size() < limit; i++) {
+            if (!matches.test(i)) {
+                continue;
+            }
+            if (skip > 0) {
+                skip--;
+            } else {
+                found.add(ids[i]);
+            }
+        }
+        return found;
+    }
+
+    private int indexOf(final int id) {
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int lowerBound(final IntPredicate after) {
+        int low = 0;
+        int high = ids.length;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (after.test(middle)) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    private void set(final int index, final int id, final long start, final long end, final Status status) {
+        ids[index] = id;
+        starts[index] = start;
+        ends[index] = end;
+        statuses[index] = (byte) status.ordinal();
+    }
+
+    private BookingTimeline copy(final int size) {
+        return new BookingTimeline(Arrays.copyOf(ids, size), Arrays.copyOf(starts, size), Arrays.copyOf(ends, size),
+                Arrays.copyOf(statuses, size));
+    }
+
+    private static void copyRange(final BookingTimeline source, final int from, final BookingTimeline target,
+                                  final int to, final int length) {
+        System.arraycopy(source.ids, from, target.ids, to, length);
+        System.arraycopy(source.starts, from, target.starts, to, length);
+        System.arraycopy(source.ends, from, target.ends, to, length);
+        System.arraycopy(source.statuses, from, target.statuses, to, length);
+    }
+}
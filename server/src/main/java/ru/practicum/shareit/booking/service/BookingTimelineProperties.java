@@ -0,0 +1,10 @@
+package ru.practicum.shareit.booking.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "shareit.booking-timeline")
+public record BookingTimelineProperties(long maxEntries,
+                                        Duration ttl) {
+}
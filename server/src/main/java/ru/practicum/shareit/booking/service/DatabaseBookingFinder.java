@@ -0,0 +1,71 @@
+package ru.practicum.shareit.booking.service;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.exception.ValidationException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@ConditionalOnProperty(name = "shareit.booking.finder", havingValue = "database", matchIfMissing = true)
+public class DatabaseBookingFinder implements BookingFinder {
+
+    BookingRepository bookingRepository;
+
+    final Sort sort = Sort.by(Sort.Direction.DESC, "start", "id");
+
+    @Override
+    public List<Booking> findAllByBookerId(final Integer userId, final String state,
+                                           final ScrollPosition position, final int size) {
+        final Limit limit = Limit.of(size);
+        final Window<Booking> bookings = switch (state) {
+            case "all" -> bookingRepository.findAllByBookerId(userId, position, sort, limit);
+            case "CURRENT" -> bookingRepository.findAllByBookerIdAndStartBeforeAndEndAfter(userId,
+                    LocalDateTime.now(), LocalDateTime.now(), position, sort, limit);
+            case "PAST" -> bookingRepository.findAllByBookerIdAndEndBefore(userId, LocalDateTime.now(),
+                    position, sort, limit);
+            case "FUTURE" -> bookingRepository.findAllByBookerIdAndStartAfter(userId, LocalDateTime.now(),
+                    position, sort, limit);
+            case "WAITING" -> bookingRepository.findAllByBookerIdAndStatusIs(userId, Status.WAITING,
+                    position, sort, limit);
+            case "REJECTED" -> bookingRepository.findAllByBookerIdAndStatusIs(userId, Status.REJECTED,
+                    position, sort, limit);
+            default -> throw new ValidationException("Неверно передан параметр state");
+        };
+        return bookings.getContent();
+    }
+
+    @Override
+    public List<Booking> findAllByOwnerId(final Integer ownerId, final String state,
+                                          final ScrollPosition position, final int size) {
+        final Limit limit = Limit.of(size);
+        final Window<Booking> bookings = switch (state) {
+            case "all" -> bookingRepository.findAllByItemOwnerId(ownerId, position, sort, limit);
+            case "CURRENT" -> bookingRepository.findAllByItemOwnerIdAndStartBeforeAndEndAfter(ownerId,
+                    LocalDateTime.now(), LocalDateTime.now(), position, sort, limit);
+            case "PAST" -> bookingRepository.findAllByItemOwnerIdAndEndBefore(ownerId, LocalDateTime.now(),
+                    position, sort, limit);
+            case "FUTURE" -> bookingRepository.findAllByItemOwnerIdAndStartAfter(ownerId, LocalDateTime.now(),
+                    position, sort, limit);
+            case "WAITING" -> bookingRepository.findAllByItemOwnerIdAndStatusIs(ownerId, Status.WAITING,
+                    position, sort, limit);
+            case "REJECTED" -> bookingRepository.findAllByItemOwnerIdAndStatusIs(ownerId, Status.REJECTED,
+                    position, sort, limit);
+            default -> throw new ValidationException("Неверно передан параметр state");
+        };
+        return bookings.getContent();
+    }
+}
@@ -0,0 +1,121 @@
+package ru.practicum.shareit.booking.service;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dto.ItemBookingDates;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.ItemBookingSummary;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.repository.ItemBookingSummaryRepository;
+import ru.practicum.shareit.user.service.UserDeletedEvent;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ItemBookingSummaries {
+
+    static final int SWEEP_BATCH = 500;
+
+    ItemBookingSummaryRepository itemBookingSummaryRepository;
+
+    BookingRepository bookingRepository;
+
+    ItemLocks itemLocks;
+
+    public ItemBookingSummary find(final Integer itemId, final LocalDateTime time) {
+        return findAll(List.of(itemId), time).get(itemId);
+    }
+
+    public Map<Integer, ItemBookingSummary> findAll(final Collection<Integer> itemIds, final LocalDateTime time) {
+        final Map<Integer, ItemBookingSummary> summaries = itemBookingSummaryRepository.findAllById(itemIds).stream()
+                .collect(Collectors.toMap(ItemBookingSummary::getItemId, Function.identity()));
+        refresh(summaries.values().stream().filter(summary -> summary.isStale(time)).toList(), time);
+        itemIds.forEach(itemId -> summaries.computeIfAbsent(itemId, ItemBookingSummary::new));
+        return summaries;
+    }
+
+    public void applyApproved(final Collection<Booking> bookings, final LocalDateTime time) {
+        final Map<Integer, List<Booking>> bookingsByItem = bookings.stream()
+                .collect(Collectors.groupingBy(booking -> booking.getItem().getId()));
+        itemLocks.lockAllUntilCompletion(bookingsByItem.keySet());
+        final Map<Integer, ItemBookingSummary> summaries = findAll(bookingsByItem.keySet(), time);
+        bookingsByItem.forEach((itemId, itemBookings) -> {
+            final ItemBookingSummary summary = summaries.get(itemId);
+            itemBookings.forEach(booking -> apply(summary, booking, time));
+        });
+        itemBookingSummaryRepository.saveAll(summaries.values());
+    }
+
+    @Scheduled(fixedDelayString = "${shareit.booking-summary.sweep-delay}")
+    @Transactional
+    public void sweep() {
+        final LocalDateTime now = LocalDateTime.now();
+        final List<ItemBookingSummary> due = itemBookingSummaryRepository
+                .findAllByValidUntilLessThanEqualOrderByValidUntil(now, Limit.of(SWEEP_BATCH));
+        if (due.isEmpty()) {
+            return;
+        }
+        itemLocks.lockAllUntilCompletion(due.stream().map(ItemBookingSummary::getItemId).toList());
+        refresh(due, now);
+        log.debug("Обновлены сводки бронирований для {} вещей", due.size());
+    }
+
+    @EventListener
+    public void onUserDeleted(final UserDeletedEvent event) {
+        itemBookingSummaryRepository.expireByBooker(event.userId(), Status.APPROVED, LocalDateTime.now());
+    }
+
+    private void refresh(final List<ItemBookingSummary> summaries, final LocalDateTime time) {
+        if (summaries.isEmpty()) {
+            return;
+        }
+        final Map<Integer, ItemBookingDates> bookingDates = bookingRepository
+                .findBookingDates(summaries.stream().map(ItemBookingSummary::getItemId).toList(), time,
+                        Status.APPROVED).stream()
+                .collect(Collectors.toMap(ItemBookingDates::getItemId, Function.identity()));
+        summaries.forEach(summary -> {
+            final ItemBookingDates dates = bookingDates.get(summary.getItemId());
+            summary.setLastBooking(Objects.isNull(dates) ? null : dates.getLastBooking());
+            summary.setNextBooking(Objects.isNull(dates) ? null : dates.getNextBooking());
+            summary.setValidUntil(Objects.isNull(dates) ? null : earliest(dates.getNextBooking(), dates.getNextEnd()));
+        });
+    }
+
+    private void apply(final ItemBookingSummary summary, final Booking booking, final LocalDateTime time) {
+        if (booking.getEnd().isBefore(time)) {
+            summary.setLastBooking(latest(summary.getLastBooking(), booking.getEnd()));
+        }
+        if (booking.getStart().isAfter(time)) {
+            summary.setNextBooking(earliest(summary.getNextBooking(), booking.getStart()));
+            summary.setValidUntil(earliest(summary.getValidUntil(), booking.getStart()));
+        } else if (booking.getEnd().isAfter(time)) {
+            summary.setValidUntil(earliest(summary.getValidUntil(), booking.getEnd()));
+        }
+    }
+
+    private static LocalDateTime earliest(final LocalDateTime first, final LocalDateTime second) {
+        return Stream.of(first, second).filter(Objects::nonNull).min(LocalDateTime::compareTo).orElse(null);
+    }
+
+    private static LocalDateTime latest(final LocalDateTime first, final LocalDateTime second) {
+        return Stream.of(first, second).filter(Objects::nonNull).max(LocalDateTime::compareTo).orElse(null);
+    }
+}
@@ -0,0 +1,53 @@
+package ru.practicum.shareit.booking.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class ItemLocks {
+
+    private static final int STRIPES = 256;
+
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+
+    public ItemLocks() {
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    public void lockUntilCompletion(final Integer itemId) {
+        lockUntilCompletion(locks[stripe(itemId)]);
+    }
+
+    public void lockAllUntilCompletion(final Collection<Integer> itemIds) {
+        itemIds.stream()
+                .map(this::stripe)
+                .distinct()
+                .sorted()
+                .forEach(stripe -> lockUntilCompletion(locks[stripe]));
+    }
+
+    private int stripe(final Integer itemId) {
+        return Math.floorMod(itemId * 0x9E3779B9, STRIPES);
+    }
+
+    private void lockUntilCompletion(final ReentrantLock lock) {
+        lock.lock();
+        try {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    lock.unlock();
+                }
+            });
+        } catch (RuntimeException exception) {
+            lock.unlock();
+            throw exception;
+        }
+    }
+}
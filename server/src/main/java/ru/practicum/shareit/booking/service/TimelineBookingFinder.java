@@ -0,0 +1,186 @@
+package ru.practicum.shareit.booking.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.OffsetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.booking.dto.BookingTimelineEntry;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.service.ItemDeletedEvent;
+import ru.practicum.shareit.user.service.UserDeletedEvent;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@EnableConfigurationProperties(BookingTimelineProperties.class)
+@ConditionalOnProperty(name = "shareit.booking.finder", havingValue = "timeline")
+public class TimelineBookingFinder implements BookingFinder {
+
+    static final String CACHE_NAME = "bookingTimelines";
+
+    BookingRepository bookingRepository;
+
+    BookingTimelineProperties properties;
+
+    Cache<Key, BookingTimeline> timelines;
+
+    AtomicBoolean warming = new AtomicBoolean();
+
+    Set<Key> changedDuringWarmUp = ConcurrentHashMap.newKeySet();
+
+    public TimelineBookingFinder(final BookingRepository bookingRepository,
+                                 final BookingTimelineProperties properties,
+                                 final MeterRegistry meterRegistry) {
+        this.bookingRepository = bookingRepository;
+        this.properties = properties;
+        this.timelines = Caffeine.newBuilder()
+                .maximumWeight(properties.maxEntries())
+                .<Key, BookingTimeline>weigher((key, timeline) -> timeline.size() + 1)
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, timelines, CACHE_NAME);
+    }
+
+    @Override
+    public List<Booking> findAllByBookerId(final Integer userId, final String state,
+                                           final ScrollPosition position, final int size) {
+        final BookingTimeline timeline = timelines.get(new Key(false, userId),
+                key -> BookingTimeline.of(bookingRepository.findTimelineByBookerId(userId)));
+        return find(timeline, state, position, size);
+    }
+
+    @Override
+    public List<Booking> findAllByOwnerId(final Integer ownerId, final String state,
+                                          final ScrollPosition position, final int size) {
+        final BookingTimeline timeline = timelines.get(new Key(true, ownerId),
+                key -> BookingTimeline.of(bookingRepository.findTimelineByItemOwnerId(ownerId)));
+        return find(timeline, state, position, size);
+    }
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        final long budget = properties.maxEntries() / 2;
+        warming.set(true);
+        try (Stream<BookingTimelineEntry> bookers = bookingRepository.streamBookerTimelines()) {
+            warmUp(bookers, false, budget);
+        }
+        try (Stream<BookingTimelineEntry> owners = bookingRepository.streamOwnerTimelines()) {
+            warmUp(owners, true, budget);
+        } finally {
+            warming.set(false);
+            changedDuringWarmUp.clear();
+        }
+        log.info("Хронологии бронирований загружены: {}", timelines.estimatedSize());
+    }
+
+    @TransactionalEventListener
+    public void onBookingChanged(final BookingChangedEvent event) {
+        final long start = BookingTimeline.key(event.start());
+        final long end = BookingTimeline.key(event.end());
+        for (final Key key : List.of(new Key(false, event.bookerId()), new Key(true, event.ownerId()))) {
+            if (warming.get()) {
+                changedDuringWarmUp.add(key);
+            }
+            timelines.asMap().computeIfPresent(key,
+                    (k, timeline) -> timeline.with(event.bookingId(), start, end, event.status()));
+        }
+    }
+
+    @TransactionalEventListener
+    public void onUserDeleted(final UserDeletedEvent event) {
+        invalidate(List.of(new Key(false, event.userId()), new Key(true, event.userId())));
+    }
+
+    @TransactionalEventListener
+    public void onItemDeleted(final ItemDeletedEvent event) {
+        final List<Key> keys = new ArrayList<>();
+        keys.add(new Key(true, event.ownerId()));
+        event.bookerIds().forEach(bookerId -> keys.add(new Key(false, bookerId)));
+        invalidate(keys);
+    }
+
+    private void invalidate(final List<Key> keys) {
+        if (warming.get()) {
+            changedDuringWarmUp.addAll(keys);
+        }
+        timelines.invalidateAll(keys);
+    }
+
+    private void warmUp(final Stream<BookingTimelineEntry> entries, final boolean owner, final long budget) {
+        final List<BookingTimelineEntry> current = new ArrayList<>();
+        long loaded = 0;
+        for (final BookingTimelineEntry entry : (Iterable<BookingTimelineEntry>) entries::iterator) {
+            if (!current.isEmpty() && !current.get(0).getUserId().equals(entry.getUserId())) {
+                loaded += put(owner, current);
+                if (loaded >= budget) {
+                    return;
+                }
+            }
+            current.add(entry);
+        }
+        put(owner, current);
+    }
+
+    private int put(final boolean owner, final List<BookingTimelineEntry> entries) {
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        final BookingTimeline timeline = BookingTimeline.of(entries);
+        final Key key = new Key(owner, entries.get(0).getUserId());
+        if (!changedDuringWarmUp.contains(key)) {
+            timelines.asMap().putIfAbsent(key, timeline);
+        }
+        entries.clear();
+        return timeline.size();
+    }
+
+    private List<Booking> find(final BookingTimeline timeline, final String state,
+                               final ScrollPosition position, final int size) {
+        final long now = BookingTimeline.key(LocalDateTime.now());
+        final List<Integer> ids = switch (position) {
+            case KeysetScrollPosition keyset -> timeline.find(state, now,
+                    BookingTimeline.key((LocalDateTime) keyset.getKeys().get("start")),
+                    (Integer) keyset.getKeys().get("id"), 0, size);
+            case OffsetScrollPosition offset -> timeline.find(state, now, 0, null,
+                    offset.isInitial() ? 0 : Math.toIntExact(offset.getOffset() + 1), size);
+            default -> throw new IllegalArgumentException("Неподдерживаемая позиция " + position);
+        };
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        final Map<Integer, Booking> bookings = bookingRepository.findAllByIdIn(ids).stream()
+                .collect(Collectors.toMap(Booking::getId, Function.identity()));
+        return ids.stream().map(bookings::get).filter(Objects::nonNull).toList();
+    }
+
+    record Key(boolean owner, Integer userId) {
+    }
+}
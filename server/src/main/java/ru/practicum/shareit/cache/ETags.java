@@ -0,0 +1,18 @@
+package ru.practicum.shareit.cache;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Objects;
+
+public final class ETags {
+
+    private static final String EXPIRY_SEPARATOR = "-";
+
+    private ETags() {
+    }
+
+    public static String expiring(final long version, final LocalDateTime validUntil) {
+        final long expiry = Objects.isNull(validUntil) ? 0 : validUntil.toEpochSecond(ZoneOffset.UTC);
+        return version + EXPIRY_SEPARATOR + expiry;
+    }
+}
@@ -0,0 +1,70 @@
+package ru.practicum.shareit.cache;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemChangedEvent;
+import ru.practicum.shareit.item.service.ItemDeletedEvent;
+import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserDeletedEvent;
+
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class LookupCache {
+
+    public static final String USER_EXISTS = "userExists";
+
+    public static final String ITEM_OWNERS = "itemOwners";
+
+    public static final String OWNERS_WITH_ITEMS = "ownersWithItems";
+
+    UserRepository userRepository;
+
+    ItemRepository itemRepository;
+
+    @Cacheable(cacheNames = USER_EXISTS, unless = "!#result")
+    public boolean userExists(final Integer userId) {
+        return userRepository.existsById(userId);
+    }
+
+    @Cacheable(cacheNames = ITEM_OWNERS, unless = "#result == null")
+    public Optional<Integer> itemOwnerId(final Integer itemId) {
+        return itemRepository.findOwnerIdById(itemId);
+    }
+
+    @Cacheable(cacheNames = OWNERS_WITH_ITEMS, unless = "!#result")
+    public boolean hasItems(final Integer ownerId) {
+        return itemRepository.existsByOwnerId(ownerId);
+    }
+
+    @TransactionalEventListener
+    @Caching(evict = {
+            @CacheEvict(cacheNames = USER_EXISTS, key = "#event.userId()"),
+            @CacheEvict(cacheNames = OWNERS_WITH_ITEMS, key = "#event.userId()"),
+            @CacheEvict(cacheNames = ITEM_OWNERS, allEntries = true)
+    })
+    public void onUserDeleted(final UserDeletedEvent event) {
+    }
+
+    @TransactionalEventListener
+    @CacheEvict(cacheNames = ITEM_OWNERS, key = "#event.itemId()")
+    public void onItemChanged(final ItemChangedEvent event) {
+    }
+
+    @TransactionalEventListener
+    @Caching(evict = {
+            @CacheEvict(cacheNames = ITEM_OWNERS, key = "#event.itemId()"),
+            @CacheEvict(cacheNames = OWNERS_WITH_ITEMS, key = "#event.ownerId()")
+    })
+    public void onItemDeleted(final ItemDeletedEvent event) {
+    }
+}
@@ -0,0 +1,34 @@
+package ru.practicum.shareit.cache;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.service.UserDeletedEvent;
+import ru.practicum.shareit.user.service.UserUpdatedEvent;
+
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ViewVersionListener {
+
+    ItemRepository itemRepository;
+
+    ItemRequestRepository itemRequestRepository;
+
+    @EventListener
+    public void onUserUpdated(final UserUpdatedEvent event) {
+        itemRepository.incrementViewVersionByCommentAuthor(event.userId());
+    }
+
+    @EventListener
+    public void onUserDeleted(final UserDeletedEvent event) {
+        itemRepository.incrementViewVersionByCommentAuthor(event.userId());
+        itemRepository.incrementViewVersionByBooker(event.userId(), Status.APPROVED);
+        itemRequestRepository.incrementViewVersionByItemOwner(event.userId());
+    }
+}
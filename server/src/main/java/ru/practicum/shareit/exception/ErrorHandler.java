@@ -2,6 +2,7 @@ package ru.practicum.shareit.exception;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -46,6 +47,20 @@ public class ErrorHandler {
         return Map.of("error", exception.getMessage());
     }
 
+    @ExceptionHandler
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public Map<String, String> handlerOptimisticLock(final ObjectOptimisticLockingFailureException exception) {
+        log.debug("Получен статус 409 Conflict {}", exception.getMessage(), exception);
+        return Map.of("error", "Данные были изменены другим запросом, повторите попытку");
+    }
+
+    @ExceptionHandler
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public Map<String, String> handlerUnavailable(final UnavailableException exception) {
+        log.debug("Получен статус 503 Service Unavailable {}", exception.getMessage(), exception);
+        return Map.of("error", exception.getMessage());
+    }
+
     @ExceptionHandler
     @ResponseStatus(HttpStatus.FORBIDDEN)
     public Map<String, String> handlerForbidden(final ForbiddenException exception) {
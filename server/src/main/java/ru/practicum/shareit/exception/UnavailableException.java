@@ -0,0 +1,7 @@
+package ru.practicum.shareit.exception;
+
+public class UnavailableException extends RuntimeException {
+    public UnavailableException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,66 @@
+package ru.practicum.shareit.guard;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.cache.LookupCache;
+import ru.practicum.shareit.exception.ForbiddenException;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.exception.ValidationException;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class EntityGuard {
+
+    LookupCache lookupCache;
+
+    BookingRepository bookingRepository;
+
+    ItemRequestRepository itemRequestRepository;
+
+    public void requireUser(final Integer userId) {
+        if (!lookupCache.userExists(userId)) {
+            throw new NotFoundException("Пользователя с id = {} нет." + userId);
+        }
+    }
+
+    public void requireItemOwner(final Integer ownerId, final Integer itemId) {
+        final Integer itemOwnerId = lookupCache.itemOwnerId(itemId)
+                .orElseThrow(() -> new NotFoundException("Вещи с id = {} нет." + itemId));
+        if (!Objects.equals(itemOwnerId, ownerId)) {
+            log.warn("Только владелец может редактировать данные о вещи." +
+                    "Пользователь с id = {} не владелец вещи с id = {}", ownerId, itemId);
+            throw new ForbiddenException("Только владелец может редактировать данные о вещи." +
+                    "Пользователь с id = " + ownerId + " не владелец вещи с id = " + itemId);
+        }
+    }
+
+    public void requireItems(final Integer ownerId) {
+        if (!lookupCache.hasItems(ownerId)) {
+            throw new ValidationException("у пользователя пока нет вещей");
+        }
+    }
+
+    public void requireRequest(final Integer requestId) {
+        if (!itemRequestRepository.existsById(requestId)) {
+            throw new NotFoundException("Запроса с id = {} нет." + requestId);
+        }
+    }
+
+    public void requireFinishedBooking(final Integer userId, final Integer itemId) {
+        if (!bookingRepository.existsByBookerIdAndItemIdAndStatusAndEndBefore(userId, itemId, Status.APPROVED,
+                LocalDateTime.now())) {
+            throw new ValidationException("Нельзя написать отзыв если пользователь не брал в аренду вещь");
+        }
+    }
+}
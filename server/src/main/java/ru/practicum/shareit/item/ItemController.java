@@ -2,6 +2,8 @@ package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,10 +16,13 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemResponce;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.stream.NdjsonWriter;
 
 import java.util.List;
 
@@ -29,6 +34,8 @@ public class ItemController {
 
     private final ItemService itemService;
 
+    private final NdjsonWriter ndjsonWriter;
+
     private static final String HEADER = "X-Sharer-User-Id";
 
     @PostMapping
@@ -46,9 +53,13 @@ public class ItemController {
     }
 
     @GetMapping("/{itemId}")
-    public ItemResponce findById(@RequestHeader(HEADER) final Integer ownerId,
-                                 @PathVariable final Integer itemId) {
-        return itemService.findById(ownerId, itemId);
+    public ResponseEntity<ItemResponce> findById(@RequestHeader(HEADER) final Integer ownerId,
+                                                 @PathVariable final Integer itemId,
+                                                 final WebRequest request) {
+        if (request.checkNotModified(itemService.findTag(ownerId, itemId))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).varyBy(HEADER).build();
+        }
+        return ResponseEntity.ok().varyBy(HEADER).body(itemService.findById(ownerId, itemId));
     }
 
     @DeleteMapping("/{itemId}")
@@ -58,13 +69,21 @@ public class ItemController {
     }
 
     @GetMapping
-    public List<ItemDto> getItemsByOwnerId(@RequestHeader(HEADER) final Integer ownerId) {
+    public List<ItemResponce> getItemsByOwnerId(@RequestHeader(HEADER) final Integer ownerId) {
         return itemService.getItemsByOwnerId(ownerId);
     }
 
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamItemsByOwnerId(
+            @RequestHeader(HEADER) final Integer ownerId) {
+        return ndjsonWriter.<ItemResponce>stream(consumer -> itemService.streamItemsByOwnerId(ownerId, consumer));
+    }
+
     @GetMapping("/search")
-    public List<ItemDto> search(@RequestParam final String text) {
-        return itemService.search(text);
+    public List<ItemDto> search(@RequestParam final String text,
+                                @RequestParam(defaultValue = "0") final Integer from,
+                                @RequestParam(defaultValue = "10") final Integer size) {
+        return itemService.search(text, from, size);
     }
 
     @PostMapping("/{itemId}/comment")
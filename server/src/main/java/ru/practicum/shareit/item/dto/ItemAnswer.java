@@ -0,0 +1,12 @@
+package ru.practicum.shareit.item.dto;
+
+public interface ItemAnswer {
+
+    Integer getRequestId();
+
+    Integer getItemId();
+
+    String getName();
+
+    Integer getOwnerId();
+}
@@ -62,4 +62,15 @@ public class ItemMapper {
 
         return itemDtoResponceForIR;
     }
+
+    public ItemDtoResponceForIR toItemDtoResponceForIR(ItemAnswer itemAnswer) {
+
+        final ItemDtoResponceForIR itemDtoResponceForIR = new ItemDtoResponceForIR();
+
+        itemDtoResponceForIR.setItemId(itemAnswer.getItemId());
+        itemDtoResponceForIR.setOwnerId(itemAnswer.getOwnerId());
+        itemDtoResponceForIR.setName(itemAnswer.getName());
+
+        return itemDtoResponceForIR;
+    }
 }
@@ -0,0 +1,14 @@
+package ru.practicum.shareit.item.dto;
+
+public interface ItemSearchDocument {
+
+    Integer getId();
+
+    Integer getOwnerId();
+
+    String getName();
+
+    String getDescription();
+
+    Boolean getAvailable();
+}
@@ -0,0 +1,8 @@
+package ru.practicum.shareit.item.dto;
+
+public interface ItemVersion {
+
+    Integer getOwnerId();
+
+    Long getVersion();
+}
@@ -7,7 +7,9 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -22,13 +24,14 @@ import ru.practicum.shareit.user.model.User;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-@EqualsAndHashCode(exclude = {"id"})
+@EqualsAndHashCode(exclude = {"id", "version", "viewVersion"})
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class Item {
 
     @Column(name = "id")
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "items_seq")
+    @SequenceGenerator(name = "items_seq", sequenceName = "items_seq", allocationSize = 50)
     Integer id;
 
     @Column(name = "name")
@@ -47,4 +50,15 @@ public class Item {
     @ManyToOne
     @JoinColumn(name = "request_id")
     ItemRequest request;
+
+    @Version
+    @Column(name = "version")
+    long version;
+
+    /**
+     * Bumped by bulk updates when bookings, comments or answers shown with the entity change. Only the ETag reads
+     * it, so unlike {@link #version} it never fails an optimistic lock.
+     */
+    @Column(name = "view_version", insertable = false, updatable = false)
+    long viewVersion;
 }
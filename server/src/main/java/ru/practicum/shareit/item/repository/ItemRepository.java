@@ -1,24 +1,114 @@
 package ru.practicum.shareit.item.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.item.dto.ItemAnswer;
+import ru.practicum.shareit.item.dto.ItemSearchDocument;
+import ru.practicum.shareit.item.dto.ItemVersion;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.request.model.ItemRequest;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ItemRepository extends JpaRepository<Item, Integer> {
 
+    @EntityGraph(attributePaths = {"owner", "request", "request.requestor"})
     List<Item> findAllByOwnerId(final Integer ownerId);
 
+    @EntityGraph(attributePaths = {"owner", "request", "request.requestor"})
+    List<Item> findAllByOwnerIdAndIdGreaterThanOrderById(final Integer ownerId, final Integer afterId,
+                                                         final Limit limit);
+
     @Query("""
             SELECT i
             FROM Item i
             WHERE i.available = true
                 AND (LOWER(i.name) LIKE LOWER(CONCAT('%', :text, '%'))
                 OR LOWER(i.description) LIKE LOWER(CONCAT('%', :text, '%')))
+            ORDER BY CASE WHEN LOWER(i.name) LIKE LOWER(CONCAT('%', :text, '%')) THEN 0 ELSE 1 END, i.id
             """)
-    List<Item> search(final String text);
+    List<Item> search(final String text, final Pageable pageable);
 
     List<Item> findAllByRequest(final ItemRequest request);
+
+    @Query("""
+            SELECT i.request.id AS requestId, i.id AS itemId, i.name AS name, i.owner.id AS ownerId
+            FROM Item i
+            WHERE i.request.requestor.id = :requestorId
+            ORDER BY i.id
+            """)
+    List<ItemAnswer> findAnswersByRequestorId(final Integer requestorId);
+
+    @Query("""
+            SELECT i.request.id AS requestId, i.id AS itemId, i.name AS name, i.owner.id AS ownerId
+            FROM Item i
+            WHERE i.request.id = :requestId
+            ORDER BY i.id
+            """)
+    List<ItemAnswer> findAnswersByRequestId(final Integer requestId);
+
+    @Query("""
+            SELECT i.request.id AS requestId, i.id AS itemId, i.name AS name, i.owner.id AS ownerId
+            FROM Item i
+            WHERE i.request.id IN :requestIds
+            ORDER BY i.id
+            """)
+    List<ItemAnswer> findAnswersByRequestIdIn(final Collection<Integer> requestIds);
+
+    boolean existsByOwnerId(final Integer ownerId);
+
+    @Query("SELECT i.owner.id FROM Item i WHERE i.id = :itemId")
+    Optional<Integer> findOwnerIdById(final Integer itemId);
+
+    @Query("SELECT i.owner.id AS ownerId, i.version + i.viewVersion + i.owner.version AS version FROM Item i WHERE i.id = :itemId")
+    Optional<ItemVersion> findVersionById(final Integer itemId);
+
+    @Modifying
+    @Query("UPDATE Item i SET i.viewVersion = i.viewVersion + 1 WHERE i.id = :itemId")
+    void incrementViewVersion(final Integer itemId);
+
+    @Modifying
+    @Query("UPDATE Item i SET i.viewVersion = i.viewVersion + 1 WHERE i.id IN :itemIds")
+    void incrementViewVersions(final Collection<Integer> itemIds);
+
+    @Modifying
+    @Query("""
+            UPDATE Item i SET i.viewVersion = i.viewVersion + 1
+            WHERE i.id IN (SELECT c.item.id FROM Comment c WHERE c.author.id = :userId)
+            """)
+    void incrementViewVersionByCommentAuthor(final Integer userId);
+
+    @Modifying
+    @Query("""
+            UPDATE Item i SET i.viewVersion = i.viewVersion + 1
+            WHERE i.id IN (SELECT b.item.id FROM Booking b WHERE b.booker.id = :userId AND b.status = :status)
+            """)
+    void incrementViewVersionByBooker(final Integer userId, final Status status);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            SELECT i.id AS id, i.owner.id AS ownerId, i.name AS name, i.description AS description,
+                   i.available AS available
+            FROM Item i
+            """)
+    Stream<ItemSearchDocument> streamSearchDocuments();
+
+    @Query("""
+            SELECT i.id AS id, i.owner.id AS ownerId, i.name AS name, i.description AS description,
+                   i.available AS available
+            FROM Item i
+            WHERE i.id IN :itemIds
+            """)
+    List<ItemSearchDocument> findSearchDocumentsByIdIn(final Collection<Integer> itemIds);
 }
@@ -0,0 +1,78 @@
+package ru.practicum.shareit.item.service;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@ConditionalOnProperty(name = "shareit.search.engine", havingValue = "database", matchIfMissing = true)
+public class DatabaseItemSearchEngine implements ItemSearchEngine {
+
+    ItemRepository itemRepository;
+
+    @Override
+    public List<Item> search(final String text, final int from, final int size) {
+        return itemRepository.search(text, new OffsetPageable(from, size));
+    }
+
+    /**
+     * Pages by row offset rather than page number, so {@code from} need not be a multiple of {@code size}.
+     */
+    private record OffsetPageable(long offset, int size) implements Pageable {
+
+        @Override
+        public int getPageNumber() {
+            return (int) (offset / size);
+        }
+
+        @Override
+        public int getPageSize() {
+            return size;
+        }
+
+        @Override
+        public long getOffset() {
+            return offset;
+        }
+
+        @Override
+        public Sort getSort() {
+            return Sort.unsorted();
+        }
+
+        @Override
+        public Pageable next() {
+            return new OffsetPageable(offset + size, size);
+        }
+
+        @Override
+        public Pageable previousOrFirst() {
+            return hasPrevious() ? new OffsetPageable(Math.max(offset - size, 0), size) : first();
+        }
+
+        @Override
+        public Pageable first() {
+            return new OffsetPageable(0, size);
+        }
+
+        @Override
+        public Pageable withPage(final int pageNumber) {
+            return new OffsetPageable((long) pageNumber * size, size);
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return offset > 0;
+        }
+    }
+}
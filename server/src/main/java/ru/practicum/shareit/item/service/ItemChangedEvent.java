@@ -0,0 +1,4 @@
+package ru.practicum.shareit.item.service;
+
+public record ItemChangedEvent(Integer itemId, Integer ownerId, String name, String description, Boolean available) {
+}
@@ -0,0 +1,6 @@
+package ru.practicum.shareit.item.service;
+
+import java.util.List;
+
+public record ItemDeletedEvent(Integer itemId, Integer ownerId, List<Integer> bookerIds) {
+}
@@ -5,6 +5,7 @@ import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemResponce;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface ItemService {
 
@@ -14,11 +15,15 @@ public interface ItemService {
 
     ItemResponce findById(final Integer ownerId, final Integer itemId);
 
+    String findTag(final Integer ownerId, final Integer itemId);
+
     void delete(final Integer itemId);
 
-    List<ItemDto>  getItemsByOwnerId(final Integer ownerId);
+    List<ItemResponce> getItemsByOwnerId(final Integer ownerId);
+
+    void streamItemsByOwnerId(final Integer ownerId, final Consumer<ItemResponce> consumer);
 
-    List<ItemDto> search(final String text);
+    List<ItemDto> search(final String text, final Integer from, final Integer size);
 
     CommentDto saveComment(final Integer userId, final Integer itemId, final CommentDto commentDto);
 }
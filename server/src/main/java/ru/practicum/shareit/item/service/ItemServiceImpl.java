@@ -4,24 +4,28 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import ru.practicum.shareit.booking.model.Booking;
-import ru.practicum.shareit.booking.model.Status;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.model.ItemBookingSummary;
 import ru.practicum.shareit.booking.repository.BookingRepository;
-import ru.practicum.shareit.exception.ForbiddenException;
+import ru.practicum.shareit.booking.service.ItemBookingSummaries;
+import ru.practicum.shareit.cache.ETags;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.exception.ValidationException;
+import ru.practicum.shareit.guard.EntityGuard;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.CommentMapper;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemMapper;
 import ru.practicum.shareit.item.dto.ItemResponce;
+import ru.practicum.shareit.item.dto.ItemVersion;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.CommentRepository;
 import ru.practicum.shareit.item.repository.ItemRepository;
-import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
@@ -29,8 +33,9 @@ import ru.practicum.shareit.user.repository.UserRepository;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -51,36 +56,46 @@ public class ItemServiceImpl implements ItemService {
 
     BookingRepository bookingRepository;
 
+    ItemBookingSummaries itemBookingSummaries;
+
     ItemRequestRepository itemRequestRepository;
 
+    ItemSearchEngine itemSearchEngine;
+
+    ApplicationEventPublisher eventPublisher;
+
+    EntityGuard entityGuard;
+
+    TransactionTemplate transactionTemplate;
+
+    static final int STREAM_CHUNK = 500;
+
     @Override
     @Transactional
     public ItemDto save(final Integer ownerId, final ItemDto itemDto) {
         log.info("Запрос на добавление новой вещи");
-        final User owner = userRepository.findById(ownerId)
-                .orElseThrow(() -> new NotFoundException("Пользователя с id = {} нет." + ownerId));
-        final Item item = itemRepository.save(itemMapper.toItem(owner, itemDto));
+        entityGuard.requireUser(ownerId);
+        final Item item = itemMapper.toItem(userRepository.getReferenceById(ownerId), itemDto);
+        if (Objects.nonNull(itemDto.getRequestId())) {
+            entityGuard.requireRequest(itemDto.getRequestId());
+            item.setRequest(itemRequestRepository.getReferenceById(itemDto.getRequestId()));
+        }
+        final Item savedItem = itemRepository.save(item);
         if (Objects.nonNull(itemDto.getRequestId())) {
-            final ItemRequest itemRequest = itemRequestRepository.findById(itemDto.getRequestId())
-                    .orElseThrow(() -> new NotFoundException("Запроса с id = {} нет." + itemDto.getRequestId()));
-        item.setRequest(itemRequest);
+            itemRequestRepository.incrementViewVersion(itemDto.getRequestId());
         }
-        log.info("Вещь успешно добавлена под id {}", item.getId());
-        return itemMapper.toItemDto(item);
+        eventPublisher.publishEvent(toChangedEvent(savedItem));
+        log.info("Вещь успешно добавлена под id {}", savedItem.getId());
+        return itemMapper.toItemDto(savedItem);
     }
 
     @Override
     @Transactional
     public ItemDto update(final Integer ownerId, final Integer itemId, final ItemDto itemDto) {
         log.info("Запрос на обновление вещи");
+        entityGuard.requireItemOwner(ownerId, itemId);
         final Item item = itemRepository.findById(itemId)
                 .orElseThrow(() -> new NotFoundException("Вещи с id = {} нет." + itemId));
-        if (!Objects.equals(item.getOwner().getId(), ownerId)) {
-            log.warn("Только владелец может редактировать данные о вещи." +
-                    "Пользователь с id = {} не владелец вещи с id = {}", ownerId, itemId);
-            throw new ForbiddenException("Только владелец может редактировать данные о вещи." +
-                    "Пользователь с id = " + ownerId + " не владелец вещи с id = " + itemId);
-        }
         if (Objects.nonNull(itemDto.getName())) {
             item.setName(itemDto.getName());
         }
@@ -91,6 +106,10 @@ public class ItemServiceImpl implements ItemService {
             item.setAvailable(itemDto.getAvailable());
         }
         final Item updateItem = itemRepository.save(item);
+        if (Objects.nonNull(itemDto.getName()) && Objects.nonNull(updateItem.getRequest())) {
+            itemRequestRepository.incrementViewVersion(updateItem.getRequest().getId());
+        }
+        eventPublisher.publishEvent(toChangedEvent(updateItem));
         log.info("Вещь с id {} успешно обновлена", updateItem.getId());
         return itemMapper.toItemDto(updateItem);
     }
@@ -105,45 +124,107 @@ public class ItemServiceImpl implements ItemService {
                 .map(commentMapper::toCommentDto).collect(Collectors.toList());
         final ItemResponce itemResponce = itemMapper.toItemResponce(item, commentsDto);
         if (item.getOwner().getId().equals(ownerId)) {
-            Optional<Booking> last = bookingRepository.findTopByItemIdAndEndBeforeAndStatusInOrderByEndDesc(itemId,
-                    LocalDateTime.now(), List.of(Status.APPROVED));
-            itemResponce.setLastBooking(last.map(Booking::getEnd).orElse(null));
-
-            Optional<Booking> future = bookingRepository.findTopByItemIdAndStartAfterAndStatusInOrderByStartAsc(itemId,
-                    LocalDateTime.now(), List.of(Status.APPROVED));
-            itemResponce.setNextBooking(future.map(Booking::getStart).orElse(null));
+            final ItemBookingSummary summary = itemBookingSummaries.find(itemId, LocalDateTime.now());
+            itemResponce.setLastBooking(summary.getLastBooking());
+            itemResponce.setNextBooking(summary.getNextBooking());
         }
         log.info("Вещь с id {} успешно получена", itemId);
         return itemResponce;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public String findTag(final Integer ownerId, final Integer itemId) {
+        final ItemVersion version = itemRepository.findVersionById(itemId)
+                .orElseThrow(() -> new NotFoundException("Вещи с id = {} нет." + itemId));
+        if (!version.getOwnerId().equals(ownerId)) {
+            return String.valueOf(version.getVersion());
+        }
+        final ItemBookingSummary summary = itemBookingSummaries.find(itemId, LocalDateTime.now());
+        return ETags.expiring(version.getVersion(), summary.getValidUntil());
+    }
+
     @Override
     @Transactional
     public void delete(Integer itemId) {
         log.info("Запрос на удаление вещи с id {}", itemId);
         final Item item = itemRepository.findById(itemId)
                 .orElseThrow(() -> new NotFoundException("Вещи с id = {} нет." + itemId));
+        final List<Integer> bookerIds = bookingRepository.findBookerIdsByItemId(itemId);
         itemRepository.delete(item);
+        if (Objects.nonNull(item.getRequest())) {
+            itemRequestRepository.incrementViewVersion(item.getRequest().getId());
+        }
+        eventPublisher.publishEvent(new ItemDeletedEvent(itemId, item.getOwner().getId(), bookerIds));
         log.info("Вещь с id {} успешно удалена ", itemId);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<ItemDto> getItemsByOwnerId(final Integer ownerId) {
+    public List<ItemResponce> getItemsByOwnerId(final Integer ownerId) {
         log.info("Запрос на получение всех вещей пользователя с id {}", ownerId);
         final List<Item> items = itemRepository.findAllByOwnerId(ownerId);
+        if (items.isEmpty()) {
+            return new ArrayList<>();
+        }
+        final List<ItemResponce> itemResponces = toItemResponces(items);
         log.info("Вещи пользователя с id {} успешно получены", ownerId);
-        return items.stream().map(itemMapper::toItemDto).toList();
+        return itemResponces;
+    }
+
+    /**
+     * Reads the owner's items by id in chunks, each in its own short transaction, and writes a chunk only after
+     * its transaction has committed, so a slow client never holds a database connection.
+     */
+    @Override
+    public void streamItemsByOwnerId(final Integer ownerId, final Consumer<ItemResponce> consumer) {
+        log.info("Запрос на выгрузку всех вещей пользователя с id {}", ownerId);
+        Integer afterId = 0;
+        List<ItemResponce> chunk;
+        do {
+            chunk = readChunk(ownerId, afterId);
+            chunk.forEach(consumer);
+            if (!chunk.isEmpty()) {
+                afterId = chunk.get(chunk.size() - 1).getId();
+            }
+        } while (chunk.size() == STREAM_CHUNK);
+    }
+
+    private List<ItemResponce> readChunk(final Integer ownerId, final Integer afterId) {
+        return transactionTemplate.execute(status -> {
+            final List<Item> items = itemRepository.findAllByOwnerIdAndIdGreaterThanOrderById(ownerId, afterId,
+                    Limit.of(STREAM_CHUNK));
+            return items.isEmpty() ? List.of() : toItemResponces(items);
+        });
+    }
+
+    private List<ItemResponce> toItemResponces(final List<Item> items) {
+        final List<Integer> itemIds = items.stream().map(Item::getId).toList();
+        final Map<Integer, List<CommentDto>> comments = commentRepository.findAllByItemIdIn(itemIds).stream()
+                .collect(Collectors.groupingBy(comment -> comment.getItem().getId(),
+                        Collectors.mapping(commentMapper::toCommentDto, Collectors.toList())));
+        final Map<Integer, ItemBookingSummary> summaries = itemBookingSummaries.findAll(itemIds, LocalDateTime.now());
+        return items.stream().map(item -> {
+            final ItemResponce itemResponce = itemMapper.toItemResponce(item,
+                    comments.getOrDefault(item.getId(), new ArrayList<>()));
+            final ItemBookingSummary summary = summaries.get(item.getId());
+            itemResponce.setLastBooking(summary.getLastBooking());
+            itemResponce.setNextBooking(summary.getNextBooking());
+            return itemResponce;
+        }).toList();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<ItemDto> search(final String text) {
+    public List<ItemDto> search(final String text, final Integer from, final Integer size) {
         log.info("Поиск вещей по имени или описанию");
+        if (from < 0 || size <= 0) {
+            throw new ValidationException("Параметр from не может быть отрицательным, а size должен быть больше 0");
+        }
         if (text.isEmpty()) {
             return new ArrayList<>();
         }
-        return itemRepository.search(text.trim().toLowerCase())
+        return itemSearchEngine.search(text.trim().toLowerCase(), from, size)
                 .stream().map(itemMapper::toItemDto).toList();
     }
 
@@ -155,14 +236,15 @@ public class ItemServiceImpl implements ItemService {
                 .orElseThrow(() -> new NotFoundException("Пользователя с id = {} нет." + userId));
         final Item item = itemRepository.findById(itemId)
                 .orElseThrow(() -> new NotFoundException("Вещи с id = {} нет." + itemId));
-        if (bookingRepository.findAllByBookerIdAndItemIdAndStatusEqualsAndEndIsBefore(userId, itemId,
-                        Status.APPROVED, LocalDateTime.now())
-                .isEmpty()) {
-            throw new ValidationException("Нельзя написать отзыв если пользователь не брал в аренду вещь");
-        }
+        entityGuard.requireFinishedBooking(userId, itemId);
         final Comment comment = commentMapper.toComment(commentDto, owner, item);
         final Comment comment1 = commentRepository.save(comment);
+        itemRepository.incrementViewVersion(itemId);
         log.info("Пользователь с id {} оставил комментарий к вещи с id {} ", userId, itemId);
         return commentMapper.toCommentDto(comment1);
     }
+
+    private ItemChangedEvent toChangedEvent(final Item item) {
+        return new ItemChangedEvent(item.getId(), item.getOwner().getId(), item.getName(), item.getDescription(), item.getAvailable());
+    }
 }
@@ -0,0 +1,35 @@
+package ru.practicum.shareit.item.service;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+public final class ItemTokens {
+
+    private static final String CYRILLIC = "аеорсухкмтнвё";
+
+    private static final String LATIN = "aeopcyxkmthbe";
+
+    private ItemTokens() {
+    }
+
+    public static Stream<String> split(final String text) {
+        if (Objects.isNull(text)) {
+            return Stream.empty();
+        }
+        return Arrays.stream(fold(text).split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty());
+    }
+
+    private static String fold(final String text) {
+        final char[] chars = text.toLowerCase(Locale.ROOT).toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            final int index = CYRILLIC.indexOf(chars[i]);
+            if (index >= 0) {
+                chars[i] = LATIN.charAt(index);
+            }
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,278 @@
+package ru.practicum.shareit.item.service;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.item.dto.ItemSearchDocument;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@ConditionalOnProperty(name = "shareit.search.engine", havingValue = "memory")
+public class MemoryItemSearchEngine implements ItemSearchEngine {
+
+    private static final int GRAM = 3;
+
+    ItemRepository itemRepository;
+
+    Map<String, Postings> nameIndex = new HashMap<>();
+
+    Map<String, Postings> descriptionIndex = new HashMap<>();
+
+    Map<String, Set<String>> grams = new HashMap<>();
+
+    Map<Integer, String[][]> documents = new HashMap<>();
+
+    BitSet available = new BitSet();
+
+    ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try (Stream<ItemSearchDocument> stream = itemRepository.streamSearchDocuments()) {
+            nameIndex.clear();
+            descriptionIndex.clear();
+            grams.clear();
+            documents.clear();
+            available.clear();
+            stream.forEach(document -> add(document.getId(), document.getName(), document.getDescription(),
+                    document.getAvailable()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Поисковый индекс построен, вещей в индексе: {}", documents.size());
+    }
+
+    @TransactionalEventListener
+    public void onItemChanged(final ItemChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            delete(event.itemId());
+            add(event.itemId(), event.name(), event.description(), event.available());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onItemDeleted(final ItemDeletedEvent event) {
+        lock.writeLock().lock();
+        try {
+            delete(event.itemId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Item> search(final String text, final int from, final int size) {
+        final String[] terms = tokenize(text);
+        if (terms.length == 0) {
+            return List.of();
+        }
+        final List<Integer> ids = new ArrayList<>(size);
+        lock.readLock().lock();
+        try {
+            BitSet matches = null;
+            BitSet nameMatches = null;
+            for (final String term : terms) {
+                final BitSet termNameMatches = new BitSet();
+                final BitSet termMatches = new BitSet();
+                for (final String token : tokensContaining(term)) {
+                    final Postings namePostings = nameIndex.get(token);
+                    if (Objects.nonNull(namePostings)) {
+                        namePostings.copyTo(termNameMatches);
+                        namePostings.copyTo(termMatches);
+                    }
+                    final Postings descriptionPostings = descriptionIndex.get(token);
+                    if (Objects.nonNull(descriptionPostings)) {
+                        descriptionPostings.copyTo(termMatches);
+                    }
+                }
+                if (Objects.isNull(matches)) {
+                    matches = termMatches;
+                    nameMatches = termNameMatches;
+                } else {
+                    matches.and(termMatches);
+                    nameMatches.and(termNameMatches);
+                }
+                if (matches.isEmpty()) {
+                    return List.of();
+                }
+            }
+            matches.and(available);
+            nameMatches.and(available);
+            matches.andNot(nameMatches);
+            int skip = from;
+            for (final BitSet bits : new BitSet[]{nameMatches, matches}) {
+                for (int id = bits.nextSetBit(0); id >= 0 && ids.size() < size; id = bits.nextSetBit(id + 1)) {
+                    if (skip > 0) {
+                        skip--;
+                    } else {
+                        ids.add(id);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        final Map<Integer, Item> items = itemRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        return ids.stream().map(items::get).filter(Objects::nonNull).toList();
+    }
+
+    private void add(final Integer itemId, final String name, final String description, final Boolean isAvailable) {
+        final String[] nameTerms = tokenize(name);
+        final String[] descriptionTerms = tokenize(description);
+        documents.put(itemId, new String[][]{nameTerms, descriptionTerms});
+        for (final String term : nameTerms) {
+            link(nameIndex, term, itemId);
+        }
+        for (final String term : descriptionTerms) {
+            link(descriptionIndex, term, itemId);
+        }
+        available.set(itemId, Boolean.TRUE.equals(isAvailable));
+    }
+
+    private void delete(final Integer itemId) {
+        final String[][] terms = documents.remove(itemId);
+        if (Objects.isNull(terms)) {
+            return;
+        }
+        unlink(nameIndex, terms[0], itemId);
+        unlink(descriptionIndex, terms[1], itemId);
+        available.clear(itemId);
+    }
+
+    private void link(final Map<String, Postings> index, final String term, final int itemId) {
+        if (!nameIndex.containsKey(term) && !descriptionIndex.containsKey(term)) {
+            forEachGram(term, gram -> grams.computeIfAbsent(gram, k -> new HashSet<>()).add(term));
+        }
+        index.computeIfAbsent(term, k -> new Postings()).add(itemId);
+    }
+
+    private void unlink(final Map<String, Postings> index, final String[] terms, final int itemId) {
+        for (final String term : terms) {
+            final Postings postings = index.get(term);
+            postings.remove(itemId);
+            if (postings.size == 0) {
+                index.remove(term);
+                if (!nameIndex.containsKey(term) && !descriptionIndex.containsKey(term)) {
+                    forEachGram(term, gram -> {
+                        final Set<String> tokens = grams.get(gram);
+                        tokens.remove(term);
+                        if (tokens.isEmpty()) {
+                            grams.remove(gram);
+                        }
+                    });
+                }
+            }
+        }
+    }
+
+    /**
+     * Every substring of up to {@link #GRAM} characters is indexed, so short terms are a single lookup.
+     * Longer terms intersect the token sets of their grams, starting from the rarest, and the few
+     * surviving candidates are confirmed with {@code contains}.
+     */
+    private Collection<String> tokensContaining(final String term) {
+        if (term.length() <= GRAM) {
+            return grams.getOrDefault(term, Set.of());
+        }
+        Set<String> rarest = null;
+        for (int i = 0; i + GRAM <= term.length(); i++) {
+            final Set<String> tokens = grams.get(term.substring(i, i + GRAM));
+            if (Objects.isNull(tokens)) {
+                return List.of();
+            }
+            if (Objects.isNull(rarest) || tokens.size() < rarest.size()) {
+                rarest = tokens;
+            }
+        }
+        return rarest.stream().filter(token -> token.contains(term)).toList();
+    }
+
+    private static void forEachGram(final String token, final Consumer<String> action) {
+        final Set<String> seen = new HashSet<>();
+        for (int length = 1; length <= GRAM; length++) {
+            for (int i = 0; i + length <= token.length(); i++) {
+                final String gram = token.substring(i, i + length);
+                if (seen.add(gram)) {
+                    action.accept(gram);
+                }
+            }
+        }
+    }
+
+    private static String[] tokenize(final String text) {
+        return ItemTokens.split(text).distinct().toArray(String[]::new);
+    }
+
+    private static final class Postings {
+
+        int[] ids = new int[4];
+
+        int size;
+
+        void add(final int id) {
+            final int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            final int position = -index - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            ids[position] = id;
+            size++;
+        }
+
+        void remove(final int id) {
+            final int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+        }
+
+        void copyTo(final BitSet target) {
+            for (int i = 0; i < size; i++) {
+                target.set(ids[i]);
+            }
+        }
+    }
+}
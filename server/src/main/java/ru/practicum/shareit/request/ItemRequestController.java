@@ -1,15 +1,20 @@
 package ru.practicum.shareit.request;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestResponceDto;
+import ru.practicum.shareit.request.dto.ItemSuggestionDto;
 import ru.practicum.shareit.request.service.ItemRequestService;
 
 import java.util.List;
@@ -35,12 +40,28 @@ public class ItemRequestController {
     }
 
     @GetMapping("/all")
-    public List<ItemRequestResponceDto> getAll(@RequestHeader(HEADER) final Integer userId) {
-        return itemRequestService.getAll(userId);
+    public List<ItemRequestResponceDto> getAll(@RequestHeader(HEADER) final Integer userId,
+                                               @RequestParam(defaultValue = "10") final Integer size,
+                                               @RequestParam(required = false) final Integer after) {
+        return itemRequestService.getAll(userId, size, after);
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestHeader(HEADER) final Integer userId) {
+        return itemRequestService.subscribe(userId);
+    }
+
+    @GetMapping("/{requestId}/suggestions")
+    public List<ItemSuggestionDto> getSuggestions(@PathVariable final Integer requestId) {
+        return itemRequestService.getSuggestions(requestId);
     }
 
     @GetMapping("/{requestId}")
-    public ItemRequestResponceDto getById(@PathVariable final Integer requestId) {
+    public ItemRequestResponceDto getById(@PathVariable final Integer requestId,
+                                          final WebRequest request) {
+        if (request.checkNotModified(itemRequestService.findTag(requestId))) {
+            return null;
+        }
         return itemRequestService.getById(requestId);
     }
 }
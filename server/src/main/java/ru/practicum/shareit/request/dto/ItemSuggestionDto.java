@@ -0,0 +1,24 @@
+package ru.practicum.shareit.request.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ItemSuggestionDto {
+
+    Integer itemId;
+
+    String name;
+
+    String description;
+
+    Integer ownerId;
+
+    Double score;
+}
@@ -7,7 +7,9 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -23,13 +25,14 @@ import java.time.LocalDateTime;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-@EqualsAndHashCode(exclude = {"id"})
+@EqualsAndHashCode(exclude = {"id", "version", "viewVersion"})
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class ItemRequest {
 
     @Column(name = "id")
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "requests_seq")
+    @SequenceGenerator(name = "requests_seq", sequenceName = "requests_seq", allocationSize = 50)
     Integer id;
 
     @Column(name = "description")
@@ -41,4 +44,15 @@ public class ItemRequest {
 
     @Column(name = "created")
     LocalDateTime created;
+
+    @Version
+    @Column(name = "version")
+    long version;
+
+    /**
+     * Bumped by bulk updates when bookings, comments or answers shown with the entity change. Only the ETag reads
+     * it, so unlike {@link #version} it never fails an optimistic lock.
+     */
+    @Column(name = "view_version", insertable = false, updatable = false)
+    long viewVersion;
 }
@@ -1,14 +1,42 @@
 package ru.practicum.shareit.request.repository;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import ru.practicum.shareit.request.model.ItemRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface ItemRequestRepository extends JpaRepository<ItemRequest, Integer> {
 
+    @EntityGraph(attributePaths = "requestor")
     List<ItemRequest> findAllByRequestorId(final Integer requestorId, Sort sort);
 
-    List<ItemRequest> findAllByRequestorIdNot(final Integer requestorId, Sort sort);
+    @EntityGraph(attributePaths = "requestor")
+    Window<ItemRequest> findAllByRequestorIdNot(final Integer requestorId, ScrollPosition position, Sort sort,
+                                                Limit limit);
+
+    @Query("SELECT r.created FROM ItemRequest r WHERE r.id = :requestId")
+    Optional<LocalDateTime> findCreatedById(final Integer requestId);
+
+    @Query("SELECT r.version + r.viewVersion + r.requestor.version FROM ItemRequest r WHERE r.id = :requestId")
+    Optional<Long> findVersionById(final Integer requestId);
+
+    @Modifying
+    @Query("UPDATE ItemRequest r SET r.viewVersion = r.viewVersion + 1 WHERE r.id = :requestId")
+    void incrementViewVersion(final Integer requestId);
+
+    @Modifying
+    @Query("""
+            UPDATE ItemRequest r SET r.viewVersion = r.viewVersion + 1
+            WHERE r.id IN (SELECT i.request.id FROM Item i WHERE i.owner.id = :ownerId)
+            """)
+    void incrementViewVersionByItemOwner(final Integer ownerId);
 }
@@ -0,0 +1,6 @@
+package ru.practicum.shareit.request.service;
+
+import ru.practicum.shareit.request.dto.ItemRequestResponceDto;
+
+public record ItemRequestCreatedEvent(ItemRequestResponceDto request) {
+}
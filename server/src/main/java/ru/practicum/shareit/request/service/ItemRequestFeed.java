@@ -0,0 +1,201 @@
+package ru.practicum.shareit.request.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ru.practicum.shareit.exception.UnavailableException;
+import ru.practicum.shareit.request.dto.ItemRequestResponceDto;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@EnableConfigurationProperties(ItemRequestFeedProperties.class)
+public class ItemRequestFeed {
+
+    static final String SUBSCRIBERS = "shareit.request.feed.subscribers";
+
+    static final String DROPPED = "shareit.request.feed.dropped";
+
+    static final String EVENT_NAME = "request";
+
+    private static final long IDLE = Long.MIN_VALUE;
+
+    ItemRequestFeedProperties properties;
+
+    ObjectMapper objectMapper;
+
+    Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    ExecutorService sender;
+
+    Counter dropped;
+
+    public ItemRequestFeed(final ItemRequestFeedProperties properties, final ObjectMapper objectMapper,
+                           final MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.sender = Executors.newFixedThreadPool(properties.senderThreads(),
+                new CustomizableThreadFactory("request-feed-"));
+        this.dropped = meterRegistry.counter(DROPPED);
+        meterRegistry.gauge(SUBSCRIBERS, List.of(), subscribers, Set::size);
+    }
+
+    public SseEmitter subscribe(final Integer userId) {
+        if (subscribers.size() >= properties.maxSubscribers()) {
+            throw new UnavailableException("Превышено число подписчиков ленты запросов, повторите попытку позже");
+        }
+        final SseEmitter emitter = new SseEmitter(properties.timeout().toMillis());
+        final Subscriber subscriber = new Subscriber(userId, emitter,
+                new ArrayBlockingQueue<>(properties.bufferSize()), new AtomicBoolean(), new AtomicLong(IDLE),
+                new AtomicBoolean(), new AtomicBoolean());
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        // an initial comment commits the response headers instead of waiting for the first event
+        subscriber.buffer().offer(SseEmitter.event().comment(""));
+        schedule(subscriber);
+        log.debug("Пользователь с id = {} подписался на ленту запросов", userId);
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onItemRequestCreated(final ItemRequestCreatedEvent event) {
+        final ItemRequestResponceDto request = event.request();
+        final String payload = toJson(request);
+        for (final Subscriber subscriber : subscribers) {
+            if (Objects.equals(subscriber.userId(), request.getRequestor().getId())) {
+                continue;
+            }
+            if (!subscriber.buffer().offer(SseEmitter.event()
+                    .id(String.valueOf(request.getId()))
+                    .name(EVENT_NAME)
+                    .data(payload))) {
+                log.debug("Подписчик с id = {} не успевает читать ленту запросов, соединение закрыто",
+                        subscriber.userId());
+                dropped.increment();
+                close(subscriber);
+                continue;
+            }
+            schedule(subscriber);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${shareit.request-feed.heartbeat}")
+    public void heartbeat() {
+        final long deadline = System.nanoTime() - properties.sendTimeout().toNanos();
+        for (final Subscriber subscriber : subscribers) {
+            final long writingSince = subscriber.writingSince().get();
+            if (writingSince != IDLE && writingSince - deadline < 0) {
+                log.debug("Отправка подписчику с id = {} зависла, соединение закрыто", subscriber.userId());
+                dropped.increment();
+                close(subscriber);
+                continue;
+            }
+            if (subscriber.buffer().isEmpty() && subscriber.buffer().offer(SseEmitter.event().comment(""))) {
+                schedule(subscriber);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(this::close);
+        sender.shutdown();
+        try {
+            if (!sender.awaitTermination(properties.sendTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                sender.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            sender.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String toJson(final ItemRequestResponceDto request) {
+        try {
+            return objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void schedule(final Subscriber subscriber) {
+        if (subscriber.sending().compareAndSet(false, true)) {
+            try {
+                sender.execute(() -> send(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.sending().set(false);
+            }
+        }
+    }
+
+    /**
+     * Drains one subscriber's buffer; at most one drain per subscriber runs at a time. Writes block, so they are
+     * bounded by the container's socket write timeout, and {@link #heartbeat()} drops subscribers stuck in one.
+     * The emitter is completed only here: its methods are synchronized, so completing it from another thread
+     * would wait for the stuck write.
+     */
+    private void send(final Subscriber subscriber) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!subscriber.closed().get() && (event = subscriber.buffer().poll()) != null) {
+                subscriber.writingSince().set(System.nanoTime());
+                subscriber.emitter().send(event);
+                subscriber.writingSince().set(IDLE);
+            }
+            if (subscriber.closed().get() && subscriber.completed().compareAndSet(false, true)) {
+                subscriber.emitter().complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            subscribers.remove(subscriber);
+            subscriber.closed().set(true);
+            subscriber.completed().set(true);
+            subscriber.buffer().clear();
+        } finally {
+            subscriber.writingSince().set(IDLE);
+            subscriber.sending().set(false);
+        }
+        if (subscriber.closed().get() ? !subscriber.completed().get() : !subscriber.buffer().isEmpty()) {
+            schedule(subscriber);
+        }
+    }
+
+    private void close(final Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        subscriber.closed().set(true);
+        subscriber.buffer().clear();
+        schedule(subscriber);
+    }
+
+    record Subscriber(Integer userId, SseEmitter emitter, Queue<SseEmitter.SseEventBuilder> buffer,
+                      AtomicBoolean sending, AtomicLong writingSince, AtomicBoolean closed,
+                      AtomicBoolean completed) {
+    }
+}
@@ -0,0 +1,13 @@
+package ru.practicum.shareit.request.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "shareit.request-feed")
+public record ItemRequestFeedProperties(int maxSubscribers,
+                                        int bufferSize,
+                                        int senderThreads,
+                                        Duration timeout,
+                                        Duration sendTimeout) {
+}
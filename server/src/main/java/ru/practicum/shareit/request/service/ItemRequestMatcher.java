@@ -0,0 +1,293 @@
+package ru.practicum.shareit.request.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.item.dto.ItemSearchDocument;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemChangedEvent;
+import ru.practicum.shareit.item.service.ItemDeletedEvent;
+import ru.practicum.shareit.item.service.ItemTokens;
+import ru.practicum.shareit.request.dto.ItemRequestResponceDto;
+import ru.practicum.shareit.request.dto.ItemSuggestionDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@EnableConfigurationProperties(ItemRequestMatchingProperties.class)
+public class ItemRequestMatcher {
+
+    static final String CACHE_NAME = "requestSuggestions";
+
+    static final String REJECTED = "shareit.request.matching.rejected";
+
+    private static final float NAME_WEIGHT = 2f;
+
+    private static final float DESCRIPTION_WEIGHT = 1f;
+
+    private static final Comparator<Candidate> BY_SCORE =
+            Comparator.comparingDouble(Candidate::score).thenComparing(Candidate::itemId, Comparator.reverseOrder());
+
+    ItemRepository itemRepository;
+
+    ItemRequestMatchingProperties properties;
+
+    Map<String, Postings> index = new HashMap<>();
+
+    Map<Integer, Document> documents = new HashMap<>();
+
+    ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    Cache<Integer, List<ItemSuggestionDto>> suggestions;
+
+    ThreadPoolExecutor executor;
+
+    Counter rejected;
+
+    public ItemRequestMatcher(final ItemRepository itemRepository,
+                              final ItemRequestMatchingProperties properties,
+                              final MeterRegistry meterRegistry) {
+        this.itemRepository = itemRepository;
+        this.properties = properties;
+        this.suggestions = Caffeine.newBuilder()
+                .maximumSize(properties.maxResults())
+                .expireAfterWrite(properties.resultTtl())
+                .recordStats()
+                .build();
+        this.rejected = meterRegistry.counter(REJECTED);
+        this.executor = new ThreadPoolExecutor(properties.threads(), properties.threads(), 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()), new CustomizableThreadFactory("request-matching-"),
+                (task, pool) -> rejected.increment());
+        CaffeineCacheMetrics.monitor(meterRegistry, suggestions, CACHE_NAME);
+    }
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try (Stream<ItemSearchDocument> stream = itemRepository.streamSearchDocuments()) {
+            index.clear();
+            documents.clear();
+            stream.forEach(document -> add(document.getId(), document.getOwnerId(), document.getName(),
+                    document.getDescription(), document.getAvailable()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Индекс подбора вещей к запросам построен, вещей в индексе: {}", documents.size());
+    }
+
+    @TransactionalEventListener
+    public void onItemChanged(final ItemChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            delete(event.itemId());
+            add(event.itemId(), event.ownerId(), event.name(), event.description(), event.available());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onItemDeleted(final ItemDeletedEvent event) {
+        lock.writeLock().lock();
+        try {
+            delete(event.itemId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onItemRequestCreated(final ItemRequestCreatedEvent event) {
+        final ItemRequestResponceDto request = event.request();
+        final Integer requestorId = request.getRequestor().getId();
+        executor.execute(() -> suggestions.put(request.getId(), match(request.getDescription(), requestorId)));
+    }
+
+    public List<ItemSuggestionDto> suggest(final Integer requestId, final String description,
+                                           final Integer requestorId) {
+        final List<ItemSuggestionDto> cached = suggestions.get(requestId, id -> match(description, requestorId));
+        lock.readLock().lock();
+        try {
+            return cached.stream()
+                    .filter(suggestion -> {
+                        final Document document = documents.get(suggestion.getItemId());
+                        return Objects.nonNull(document) && document.available();
+                    })
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Terms found in more than {@code maxDocumentFrequency} of all items carry almost no signal but would score
+     * nearly every item, so they are skipped unless their postings are no longer than the top-K itself.
+     * The index keeps no item text: names and descriptions are loaded only for the top-K that survive.
+     */
+    private List<ItemSuggestionDto> match(final String description, final Integer requestorId) {
+        final String[] terms = ItemTokens.split(description).distinct().toArray(String[]::new);
+        if (terms.length == 0) {
+            return List.of();
+        }
+        final Map<Integer, Double> scores = new HashMap<>();
+        final PriorityQueue<Candidate> top = new PriorityQueue<>(properties.topK() + 1, BY_SCORE);
+        lock.readLock().lock();
+        try {
+            final int total = documents.size();
+            final double maxPostings = Math.max(properties.topK(), properties.maxDocumentFrequency() * total);
+            for (final String term : terms) {
+                final Postings postings = index.get(term);
+                if (Objects.isNull(postings) || postings.size > maxPostings) {
+                    continue;
+                }
+                final double idf = Math.log(1 + (double) total / postings.size);
+                for (int i = 0; i < postings.size; i++) {
+                    scores.merge(postings.ids[i], idf * (1 + Math.log(postings.weights[i])), Double::sum);
+                }
+            }
+            scores.forEach((itemId, score) -> {
+                final Document document = documents.get(itemId);
+                if (!document.available() || Objects.equals(document.ownerId(), requestorId)) {
+                    return;
+                }
+                final Candidate candidate = new Candidate(itemId, score / document.length());
+                if (top.size() < properties.topK()) {
+                    top.add(candidate);
+                } else if (BY_SCORE.compare(candidate, top.peek()) > 0) {
+                    top.poll();
+                    top.add(candidate);
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (top.isEmpty()) {
+            return List.of();
+        }
+        final List<Candidate> candidates = new ArrayList<>(top);
+        candidates.sort(BY_SCORE.reversed());
+        final List<Integer> itemIds = candidates.stream().map(Candidate::itemId).toList();
+        final Map<Integer, ItemSearchDocument> found = itemRepository.findSearchDocumentsByIdIn(itemIds).stream()
+                .collect(Collectors.toMap(ItemSearchDocument::getId, Function.identity()));
+        return candidates.stream()
+                .filter(candidate -> found.containsKey(candidate.itemId()))
+                .map(candidate -> {
+                    final ItemSearchDocument item = found.get(candidate.itemId());
+                    return new ItemSuggestionDto(item.getId(), item.getName(), item.getDescription(),
+                            item.getOwnerId(), candidate.score());
+                })
+                .toList();
+    }
+
+    private void add(final Integer itemId, final Integer ownerId, final String name, final String description,
+                     final Boolean isAvailable) {
+        final Map<String, Float> weights = new HashMap<>();
+        ItemTokens.split(name).forEach(term -> weights.merge(term, NAME_WEIGHT, Float::sum));
+        ItemTokens.split(description).forEach(term -> weights.merge(term, DESCRIPTION_WEIGHT, Float::sum));
+        final double length = Math.sqrt(weights.values().stream().mapToDouble(Float::doubleValue).sum());
+        documents.put(itemId, new Document(ownerId, Boolean.TRUE.equals(isAvailable),
+                weights.keySet().toArray(String[]::new), Math.max(length, 1)));
+        weights.forEach((term, weight) -> index.computeIfAbsent(term, k -> new Postings()).add(itemId, weight));
+    }
+
+    private void delete(final Integer itemId) {
+        final Document document = documents.remove(itemId);
+        if (Objects.isNull(document)) {
+            return;
+        }
+        for (final String term : document.terms()) {
+            final Postings postings = index.get(term);
+            postings.remove(itemId);
+            if (postings.size == 0) {
+                index.remove(term);
+            }
+        }
+    }
+
+    private record Document(Integer ownerId, boolean available, String[] terms, double length) {
+    }
+
+    private record Candidate(Integer itemId, double score) {
+    }
+
+    private static final class Postings {
+
+        int[] ids = new int[4];
+
+        float[] weights = new float[4];
+
+        int size;
+
+        void add(final int id, final float weight) {
+            final int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                weights[index] = weight;
+                return;
+            }
+            final int position = -index - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            System.arraycopy(weights, position, weights, position + 1, size - position);
+            ids[position] = id;
+            weights[position] = weight;
+            size++;
+        }
+
+        void remove(final int id) {
+            final int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            System.arraycopy(weights, index + 1, weights, index, size - index - 1);
+            size--;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package ru.practicum.shareit.request.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "shareit.request-matching")
+public record ItemRequestMatchingProperties(int topK,
+                                            double maxDocumentFrequency,
+                                            int threads,
+                                            int queueCapacity,
+                                            long maxResults,
+                                            Duration resultTtl) {
+}
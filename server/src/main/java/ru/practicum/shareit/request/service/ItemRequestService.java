@@ -1,7 +1,9 @@
 package ru.practicum.shareit.request.service;
 
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestResponceDto;
+import ru.practicum.shareit.request.dto.ItemSuggestionDto;
 
 import java.util.List;
 
@@ -11,8 +13,14 @@ public interface ItemRequestService {
 
     List<ItemRequestResponceDto> getAllByUser(final Integer userId);
 
-    List<ItemRequestResponceDto> getAll(final Integer userId);
+    List<ItemRequestResponceDto> getAll(final Integer userId, final Integer size, final Integer after);
 
     ItemRequestResponceDto getById(final Integer requestId);
 
+    String findTag(final Integer requestId);
+
+    SseEmitter subscribe(final Integer userId);
+
+    List<ItemSuggestionDto> getSuggestions(final Integer requestId);
+
 }
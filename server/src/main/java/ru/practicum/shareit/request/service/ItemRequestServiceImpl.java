@@ -4,24 +4,35 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.exception.ValidationException;
+import ru.practicum.shareit.item.dto.ItemAnswer;
 import ru.practicum.shareit.item.dto.ItemDtoResponceForIR;
 import ru.practicum.shareit.item.dto.ItemMapper;
 import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestMapper;
 import ru.practicum.shareit.request.dto.ItemRequestResponceDto;
+import ru.practicum.shareit.request.dto.ItemSuggestionDto;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.dto.UserMapper;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -41,8 +52,20 @@ public class ItemRequestServiceImpl implements ItemRequestService {
 
     ItemMapper itemMapper;
 
+    ItemRequestFeed itemRequestFeed;
+
+    ItemRequestMatcher itemRequestMatcher;
+
+    ApplicationEventPublisher eventPublisher;
+
     final Sort sort = Sort.by(Sort.Direction.DESC, "created");
 
+    final Sort feedSort = Sort.by(Sort.Direction.DESC, "created", "id");
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    static final int MAX_PAGE_ITEMS = 1000;
+
     @Override
     @Transactional
     public ItemRequestResponceDto saveItemRequest(Integer userId, ItemRequestDto itemRequestDto) {
@@ -55,6 +78,7 @@ public class ItemRequestServiceImpl implements ItemRequestService {
         final ItemRequestResponceDto itemRequestResponceDto =
                 itemRequestMapper.toItemRequestResponceDto(itemRequest);
         itemRequestResponceDto.setRequestor(userMapper.toUserDto(user));
+        eventPublisher.publishEvent(new ItemRequestCreatedEvent(itemRequestResponceDto));
         return itemRequestResponceDto;
     }
 
@@ -63,13 +87,15 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     public List<ItemRequestResponceDto> getAllByUser(Integer userId) {
         log.info("Запрос на получение всех запросов пользователя с id = {} и все ответы на них", userId);
         final List<ItemRequest> itemRequests = itemRequestRepository.findAllByRequestorId(userId, sort);
+        final Map<Integer, List<ItemDtoResponceForIR>> answers = itemRequests.isEmpty() ? Map.of()
+                : itemRepository.findAnswersByRequestorId(userId).stream()
+                .collect(Collectors.groupingBy(ItemAnswer::getRequestId,
+                        Collectors.mapping(itemMapper::toItemDtoResponceForIR, Collectors.toList())));
         List<ItemRequestResponceDto> list = new ArrayList<>();
         for (ItemRequest itemRequest : itemRequests) {
             final ItemRequestResponceDto itemRequestResponceDto =
                     itemRequestMapper.toItemRequestResponceDto(itemRequest);
-            final List<ItemDtoResponceForIR> items = itemRepository.findAllByRequest(itemRequest)
-                    .stream().map(itemMapper::toItemDtoResponceForIR).toList();
-            itemRequestResponceDto.setItems(items);
+            itemRequestResponceDto.setItems(answers.getOrDefault(itemRequest.getId(), List.of()));
             itemRequestResponceDto.setRequestor(userMapper.toUserDto(itemRequest.getRequestor()));
             list.add(itemRequestResponceDto);
         }
@@ -79,18 +105,34 @@ public class ItemRequestServiceImpl implements ItemRequestService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<ItemRequestResponceDto> getAll(Integer userId) {
+    public List<ItemRequestResponceDto> getAll(Integer userId, Integer size, Integer after) {
         log.info("Запрос на получение всех запросов, кроме тех что сделал пользователь с id = {}",
                 userId);
-        final List<ItemRequest> itemRequests = itemRequestRepository.findAllByRequestorIdNot(userId, sort);
+        final List<ItemRequest> itemRequests = itemRequestRepository.findAllByRequestorIdNot(userId,
+                toScrollPosition(size, after), feedSort, Limit.of(size)).getContent();
         log.info("Получены все запросы кроме запросов пользователя с id = {}", userId);
+        final Map<Integer, List<ItemDtoResponceForIR>> answers = itemRequests.isEmpty() ? Map.of()
+                : itemRepository.findAnswersByRequestIdIn(itemRequests.stream().map(ItemRequest::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(ItemAnswer::getRequestId,
+                        Collectors.mapping(itemMapper::toItemDtoResponceForIR, Collectors.toList())));
         final List<ItemRequestResponceDto> list = new ArrayList<>();
+        int remaining = MAX_PAGE_ITEMS;
         for (ItemRequest itemRequest : itemRequests) {
-           final ItemRequestResponceDto itemRequestResponceDto =
-                   itemRequestMapper.toItemRequestResponceDto(itemRequest);
-           itemRequestResponceDto.setRequestor(userMapper.toUserDto(itemRequest.getRequestor()));
-           list.add(itemRequestResponceDto);
-       }
+            final List<ItemDtoResponceForIR> items = answers.getOrDefault(itemRequest.getId(), List.of());
+            if (!list.isEmpty() && items.size() > remaining) {
+                break;
+            }
+            final ItemRequestResponceDto itemRequestResponceDto =
+                    itemRequestMapper.toItemRequestResponceDto(itemRequest);
+            itemRequestResponceDto.setItems(items.size() > remaining ? items.subList(0, remaining) : items);
+            itemRequestResponceDto.setRequestor(userMapper.toUserDto(itemRequest.getRequestor()));
+            list.add(itemRequestResponceDto);
+            if (items.size() >= remaining) {
+                break;
+            }
+            remaining -= items.size();
+        }
         return list;
     }
 
@@ -102,11 +144,50 @@ public class ItemRequestServiceImpl implements ItemRequestService {
                 .orElseThrow(() -> new NotFoundException("Запроса с id = {} нет." + requestId));
         final ItemRequestResponceDto itemRequestResponceDto =
                 itemRequestMapper.toItemRequestResponceDto(itemRequest);
-        final List<ItemDtoResponceForIR> items = itemRepository.findAllByRequest(itemRequest)
+        final List<ItemDtoResponceForIR> items = itemRepository.findAnswersByRequestId(requestId)
                 .stream().map(itemMapper::toItemDtoResponceForIR).toList();
         itemRequestResponceDto.setItems(items);
         itemRequestResponceDto.setRequestor(userMapper.toUserDto(itemRequest.getRequestor()));
         log.info("Получен запрос с id = {} и все ответы на него", requestId);
         return itemRequestResponceDto;
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String findTag(Integer requestId) {
+        return itemRequestRepository.findVersionById(requestId).map(String::valueOf)
+                .orElseThrow(() -> new NotFoundException("Запроса с id = {} нет." + requestId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SseEmitter subscribe(Integer userId) {
+        log.info("Подписка пользователя с id = {} на новые запросы", userId);
+        if (!userRepository.existsById(userId)) {
+            throw new NotFoundException("Пользователя с id = {} нет." + userId);
+        }
+        return itemRequestFeed.subscribe(userId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ItemSuggestionDto> getSuggestions(Integer requestId) {
+        log.info("Запрос на подбор вещей для запроса с id = {}", requestId);
+        final ItemRequest itemRequest = itemRequestRepository.findById(requestId)
+                .orElseThrow(() -> new NotFoundException("Запроса с id = {} нет." + requestId));
+        return itemRequestMatcher.suggest(requestId, itemRequest.getDescription(),
+                itemRequest.getRequestor().getId());
+    }
+
+    private ScrollPosition toScrollPosition(final Integer size, final Integer after) {
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new ValidationException("Параметр size должен быть от 1 до " + MAX_PAGE_SIZE);
+        }
+        if (Objects.nonNull(after)) {
+            final LocalDateTime created = itemRequestRepository.findCreatedById(after)
+                    .orElseThrow(() -> new NotFoundException("Запроса с id = {} нет." + after));
+            return ScrollPosition.forward(Map.of("created", created, "id", after));
+        }
+        return ScrollPosition.keyset();
+    }
 }
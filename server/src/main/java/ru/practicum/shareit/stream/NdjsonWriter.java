@@ -0,0 +1,50 @@
+package ru.practicum.shareit.stream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Writes rows as newline-delimited JSON while the source produces them, so a full-table
+ * listing never has to be collected into a list before the first byte goes out.
+ */
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class NdjsonWriter {
+
+    ObjectMapper objectMapper;
+
+    public <T> ResponseEntity<StreamingResponseBody> stream(final Consumer<Consumer<T>> source) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(output -> {
+                    try (JsonGenerator generator = objectMapper.createGenerator(output)) {
+                        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                        generator.setRootValueSeparator(null);
+                        source.accept(row -> write(generator, row));
+                    } catch (UncheckedIOException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    private static void write(final JsonGenerator generator, final Object row) {
+        try {
+            generator.writeObject(row);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -4,6 +4,8 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -13,6 +15,9 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.practicum.shareit.stream.NdjsonWriter;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.service.UserService;
 
@@ -26,6 +31,8 @@ public class UserController {
 
     UserService userService;
 
+    NdjsonWriter ndjsonWriter;
+
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public UserDto save(@RequestBody final UserDto userDto) {
@@ -39,7 +46,11 @@ public class UserController {
     }
 
     @GetMapping("/{userId}")
-    public UserDto findById(@PathVariable final Integer userId) {
+    public UserDto findById(@PathVariable final Integer userId,
+                            final WebRequest request) {
+        if (request.checkNotModified(userService.findTag(userId))) {
+            return null;
+        }
         return userService.findById(userId);
     }
 
@@ -48,6 +59,11 @@ public class UserController {
         return userService.findAll();
     }
 
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        return ndjsonWriter.stream(userService::streamAll);
+    }
+
     @DeleteMapping("/{userId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void delete(@PathVariable final Integer userId) {
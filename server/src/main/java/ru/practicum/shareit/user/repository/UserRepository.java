@@ -1,7 +1,17 @@
 package ru.practicum.shareit.user.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import ru.practicum.shareit.user.model.User;
 
+import java.util.List;
+import java.util.Optional;
+
 public interface UserRepository extends JpaRepository<User, Integer> {
+
+    @Query("SELECT u.version FROM User u WHERE u.id = :userId")
+    Optional<Long> findVersionById(final Integer userId);
+
+    List<User> findAllByIdGreaterThanOrderById(final Integer afterId, final Limit limit);
 }
@@ -0,0 +1,4 @@
+package ru.practicum.shareit.user.service;
+
+public record UserDeletedEvent(Integer userId) {
+}
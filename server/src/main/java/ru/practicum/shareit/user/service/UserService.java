@@ -3,6 +3,7 @@ package ru.practicum.shareit.user.service;
 import ru.practicum.shareit.user.dto.UserDto;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface UserService {
 
@@ -12,7 +13,11 @@ public interface UserService {
 
     UserDto findById(final Integer userId);
 
+    String findTag(final Integer userId);
+
     List<UserDto> findAll();
 
+    void streamAll(final Consumer<UserDto> consumer);
+
     void delete(final Integer userId);
 }
@@ -4,8 +4,11 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.dto.UserMapper;
@@ -14,6 +17,7 @@ import ru.practicum.shareit.user.repository.UserRepository;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -25,6 +29,12 @@ public class UserServiceImpl implements UserService {
 
     UserMapper userMapper;
 
+    ApplicationEventPublisher eventPublisher;
+
+    TransactionTemplate transactionTemplate;
+
+    static final int STREAM_CHUNK = 500;
+
     @Override
     @Transactional
     public UserDto save(final UserDto userDto) {
@@ -47,6 +57,7 @@ public class UserServiceImpl implements UserService {
             user.setEmail(userDto.getEmail());
         }
         final User updateUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserUpdatedEvent(userId));
         log.info("Пользователь с id {} успешно обновлен", updateUser.getId());
         return userMapper.toUserDto(updateUser);
     }
@@ -60,6 +71,13 @@ public class UserServiceImpl implements UserService {
         return userMapper.toUserDto(user);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public String findTag(final Integer userId) {
+        return userRepository.findVersionById(userId).map(String::valueOf)
+                .orElseThrow(() -> new NotFoundException("Пользователя с id = {} нет." + userId));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<UserDto> findAll() {
@@ -67,12 +85,34 @@ public class UserServiceImpl implements UserService {
         return userRepository.findAll().stream().map(userMapper::toUserDto).toList();
     }
 
+    @Override
+    public void streamAll(final Consumer<UserDto> consumer) {
+        log.info("Запрос на выгрузку списка пользователей");
+        Integer afterId = 0;
+        List<UserDto> chunk;
+        do {
+            chunk = readChunk(afterId);
+            chunk.forEach(consumer);
+            if (!chunk.isEmpty()) {
+                afterId = chunk.get(chunk.size() - 1).getId();
+            }
+        } while (chunk.size() == STREAM_CHUNK);
+    }
+
+    private List<UserDto> readChunk(final Integer afterId) {
+        return transactionTemplate.execute(status -> userRepository
+                .findAllByIdGreaterThanOrderById(afterId, Limit.of(STREAM_CHUNK)).stream()
+                .map(userMapper::toUserDto)
+                .toList());
+    }
+
     @Override
     @Transactional
     public void delete(final Integer userId) {
         log.info("Запрос на удаление пользователей с id {}", userId);
         final User user = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("Пользователя с id = {} нет." + userId));
+        eventPublisher.publishEvent(new UserDeletedEvent(userId));
         userRepository.delete(user);
         log.info("Пользователь с id {} успешно удален ", userId);
     }
@@ -1,13 +1,11 @@
-DROP TABLE IF EXISTS users, requests, items, bookings, comments;
-
-CREATE TABLE IF NOT EXISTS users (
+CREATE TABLE users (
   id INTEGER GENERATED BY DEFAULT AS IDENTITY NOT NULL PRIMARY KEY,
   name VARCHAR(255) NOT NULL,
   email VARCHAR(512) NOT NULL,
   CONSTRAINT uq_email UNIQUE (email)
 );
 
-CREATE TABLE IF NOT EXISTS requests (
+CREATE TABLE requests (
   id INTEGER GENERATED BY DEFAULT AS IDENTITY NOT NULL PRIMARY KEY,
   description VARCHAR(255) NOT NULL,
   requestor_id INTEGER NOT NULL,
@@ -16,7 +14,7 @@ CREATE TABLE IF NOT EXISTS requests (
 );
 
 
-CREATE TABLE IF NOT EXISTS items (
+CREATE TABLE items (
   id INTEGER GENERATED BY DEFAULT AS IDENTITY NOT NULL PRIMARY KEY,
   name VARCHAR(255) NOT NULL,
   description VARCHAR(512) NOT NULL,
@@ -27,7 +25,7 @@ CREATE TABLE IF NOT EXISTS items (
   CONSTRAINT fk_request FOREIGN KEY (request_id) REFERENCES requests(id) ON DELETE CASCADE
 );
 
-CREATE TABLE IF NOT EXISTS bookings (
+CREATE TABLE bookings (
   id INTEGER GENERATED BY DEFAULT AS IDENTITY NOT NULL PRIMARY KEY,
   start_date TIMESTAMP WITHOUT TIME ZONE NOT NULL,
   end_date TIMESTAMP WITHOUT TIME ZONE NOT NULL,
@@ -38,7 +36,7 @@ CREATE TABLE IF NOT EXISTS bookings (
   CONSTRAINT fk_item_book FOREIGN KEY (item_id) REFERENCES items(id) ON DELETE CASCADE
 );
 
-CREATE TABLE IF NOT EXISTS comments (
+CREATE TABLE comments (
   id INTEGER GENERATED BY DEFAULT AS IDENTITY NOT NULL PRIMARY KEY,
   text VARCHAR(255) NOT NULL,
   item_id INTEGER NOT NULL,
@@ -46,4 +44,4 @@ CREATE TABLE IF NOT EXISTS comments (
   created TIMESTAMP WITHOUT TIME ZONE NOT NULL,
   CONSTRAINT fk_item_com FOREIGN KEY (item_id) REFERENCES items(id) ON DELETE CASCADE,
   CONSTRAINT fk_author FOREIGN KEY (author_id) REFERENCES users(id) ON DELETE CASCADE
-);
\ No newline at end of file
+);
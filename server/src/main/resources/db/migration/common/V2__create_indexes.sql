@@ -0,0 +1,15 @@
+CREATE INDEX ${concurrently} ix_bookings_booker_start ON bookings (booker_id, start_date, id);
+
+CREATE INDEX ${concurrently} ix_bookings_item_start_end ON bookings (item_id, start_date, end_date);
+
+CREATE INDEX ${concurrently} ix_bookings_item_status_end ON bookings (item_id, status, end_date);
+
+CREATE INDEX ${concurrently} ix_bookings_item_status_start ON bookings (item_id, status, start_date);
+
+CREATE INDEX ${concurrently} ix_items_owner ON items (owner_id, id);
+
+CREATE INDEX ${concurrently} ix_items_request ON items (request_id);
+
+CREATE INDEX ${concurrently} ix_comments_item ON comments (item_id);
+
+CREATE INDEX ${concurrently} ix_requests_requestor_created ON requests (requestor_id, created);
@@ -0,0 +1,7 @@
+CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY 50;
+
+CREATE SEQUENCE requests_seq START WITH 1 INCREMENT BY 50;
+
+CREATE SEQUENCE items_seq START WITH 1 INCREMENT BY 50;
+
+CREATE SEQUENCE comments_seq START WITH 1 INCREMENT BY 50;
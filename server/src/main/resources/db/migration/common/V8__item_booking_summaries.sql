@@ -0,0 +1,12 @@
+CREATE TABLE item_booking_summaries (
+  item_id INTEGER NOT NULL PRIMARY KEY,
+  last_booking TIMESTAMP WITHOUT TIME ZONE,
+  next_booking TIMESTAMP WITHOUT TIME ZONE,
+  valid_until TIMESTAMP WITHOUT TIME ZONE,
+  CONSTRAINT fk_item_summary FOREIGN KEY (item_id) REFERENCES items(id) ON DELETE CASCADE
+);
+
+CREATE INDEX ix_item_booking_summaries_valid_until ON item_booking_summaries (valid_until);
+
+INSERT INTO item_booking_summaries (item_id, valid_until)
+SELECT DISTINCT item_id, CURRENT_TIMESTAMP FROM bookings WHERE status = 'APPROVED';
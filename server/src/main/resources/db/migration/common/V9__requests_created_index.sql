@@ -0,0 +1 @@
+CREATE INDEX ${concurrently} ix_requests_created ON requests (created, id);
@@ -0,0 +1,23 @@
+ALTER TABLE requests DROP CONSTRAINT fk_requestor;
+
+ALTER TABLE requests ADD CONSTRAINT fk_requestor FOREIGN KEY (requestor_id) REFERENCES users(id) ON DELETE CASCADE;
+
+ALTER TABLE items DROP CONSTRAINT fk_owner;
+
+ALTER TABLE items ADD CONSTRAINT fk_owner FOREIGN KEY (owner_id) REFERENCES users(id) ON DELETE CASCADE;
+
+ALTER TABLE items DROP CONSTRAINT fk_request;
+
+ALTER TABLE items ADD CONSTRAINT fk_request FOREIGN KEY (request_id) REFERENCES requests(id) ON DELETE CASCADE;
+
+ALTER TABLE bookings DROP CONSTRAINT fk_booker;
+
+ALTER TABLE bookings ADD CONSTRAINT fk_booker FOREIGN KEY (booker_id) REFERENCES users(id) ON DELETE CASCADE;
+
+ALTER TABLE bookings DROP CONSTRAINT fk_item_book;
+
+ALTER TABLE bookings ADD CONSTRAINT fk_item_book FOREIGN KEY (item_id) REFERENCES items(id) ON DELETE CASCADE;
+
+ALTER TABLE comments DROP CONSTRAINT fk_item_com;
+
+ALTER TABLE comments ADD CONSTRAINT fk_item_com FOREIGN KEY (item_id) REFERENCES items(id) ON DELETE CASCADE;
@@ -0,0 +1,5 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX ${concurrently} ix_items_name_trgm ON items USING gin (LOWER(name) gin_trgm_ops) WHERE is_available;
+
+CREATE INDEX ${concurrently} ix_items_description_trgm ON items USING gin (LOWER(description) gin_trgm_ops) WHERE is_available;
@@ -0,0 +1,23 @@
+SELECT setval('users_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM users), false);
+
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY;
+
+ALTER TABLE users ALTER COLUMN id SET DEFAULT nextval('users_seq');
+
+SELECT setval('requests_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM requests), false);
+
+ALTER TABLE requests ALTER COLUMN id DROP IDENTITY;
+
+ALTER TABLE requests ALTER COLUMN id SET DEFAULT nextval('requests_seq');
+
+SELECT setval('items_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM items), false);
+
+ALTER TABLE items ALTER COLUMN id DROP IDENTITY;
+
+ALTER TABLE items ALTER COLUMN id SET DEFAULT nextval('items_seq');
+
+SELECT setval('comments_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM comments), false);
+
+ALTER TABLE comments ALTER COLUMN id DROP IDENTITY;
+
+ALTER TABLE comments ALTER COLUMN id SET DEFAULT nextval('comments_seq');
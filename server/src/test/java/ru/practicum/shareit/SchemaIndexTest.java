@@ -0,0 +1,194 @@
+package ru.practicum.shareit;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@Import(SqlRecorder.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SchemaIndexTest {
+
+    final Sort bookingSort = Sort.by(Sort.Direction.DESC, "start", "id");
+
+    final LocalDateTime now = LocalDateTime.now();
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    SqlRecorder sqlRecorder;
+
+    @Autowired
+    BookingRepository bookingRepository;
+
+    @Autowired
+    ItemRepository itemRepository;
+
+    @Autowired
+    CommentRepository commentRepository;
+
+    @Autowired
+    ItemRequestRepository itemRequestRepository;
+
+    /**
+     * On empty tables every plan costs the same and H2 may scan a table it would never scan with data,
+     * so each test runs against enough rows for the index to be the cheaper choice.
+     */
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+                INSERT INTO users (id, name, email)
+                SELECT X, 'user' || X, 'user' || X || '@mail.ru' FROM SYSTEM_RANGE(1, 100)
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO requests (id, description, requestor_id, created)
+                SELECT X, 'request', MOD(X, 100) + 1, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, 1000)
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO items (id, name, description, owner_id, is_available, request_id)
+                SELECT X, 'item', 'item', MOD(X, 100) + 1, TRUE, CASE WHEN MOD(X, 2) = 0 THEN X END
+                FROM SYSTEM_RANGE(1, 1000)
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO bookings (id, start_date, end_date, item_id, booker_id, status)
+                SELECT X, DATEADD(DAY, X, CURRENT_TIMESTAMP), DATEADD(DAY, X + 1, CURRENT_TIMESTAMP),
+                       MOD(X, 1000) + 1, MOD(X, 100) + 1, 'APPROVED'
+                FROM SYSTEM_RANGE(1, 10000)
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO comments (id, text, item_id, author_id, created)
+                SELECT X, 'comment', MOD(X, 1000) + 1, MOD(X, 100) + 1, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, 1000)
+                """);
+        sqlRecorder.clear();
+    }
+
+    @Test
+    @DisplayName("Schema_bookingsByBooker")
+    void testBookingsByBooker() {
+
+        bookingRepository.findAllByBookerIdAndStartBeforeAndEndAfter(1, now, now, ScrollPosition.keyset(),
+                bookingSort, Limit.of(10));
+        assertIndex("ix_bookings_booker_start");
+
+        bookingRepository.findAllByBookerIdAndStatusIs(1, Status.WAITING, ScrollPosition.keyset(),
+                bookingSort, Limit.of(10));
+        assertIndex("ix_bookings_booker_start");
+    }
+
+    @Test
+    @DisplayName("Schema_bookingsByOwner")
+    void testBookingsByOwner() {
+
+        bookingRepository.findAllByItemOwnerIdAndStartAfter(1, now, ScrollPosition.keyset(),
+                bookingSort, Limit.of(10));
+        assertIndex("ix_items_owner", "ix_bookings_item_");
+
+        bookingRepository.findAllByItemOwnerId(1, ScrollPosition.keyset(), bookingSort, Limit.of(10));
+        assertIndex("ix_items_owner", "ix_bookings_item_");
+    }
+
+    @Test
+    @DisplayName("Schema_lastAndNextBooking")
+    void testLastAndNextBooking() {
+
+        bookingRepository.findTopByItemIdAndEndBeforeAndStatusInOrderByEndDesc(1, now, List.of(Status.APPROVED));
+        assertIndex("ix_bookings_item_status_end");
+
+        bookingRepository.findTopByItemIdAndStartAfterAndStatusInOrderByStartAsc(1, now, List.of(Status.APPROVED));
+        assertIndex("ix_bookings_item_status_start");
+
+        bookingRepository.findBookingDates(List.of(1, 2, 3), now, Status.APPROVED);
+        assertIndex("ix_bookings_item_");
+    }
+
+    @Test
+    @DisplayName("Schema_bookingOverlap")
+    void testBookingOverlap() {
+
+        bookingRepository.existsByItemIdAndStatusInAndStartBeforeAndEndAfter(1,
+                List.of(Status.WAITING, Status.APPROVED), now, now);
+        assertIndex("ix_bookings_item_");
+
+        bookingRepository.findPeriods(List.of(1, 2, 3), List.of(Status.WAITING, Status.APPROVED), now, now);
+        assertIndex("ix_bookings_item_");
+    }
+
+    @Test
+    @DisplayName("Schema_itemsByOwnerAndRequest")
+    void testItemsByOwnerAndRequest() {
+
+        itemRepository.findAllByOwnerId(1);
+        assertIndex("ix_items_owner");
+
+        itemRepository.findAnswersByRequestId(1);
+        assertIndex("ix_items_request");
+
+        itemRepository.findAnswersByRequestIdIn(List.of(1, 2, 3));
+        assertIndex("ix_items_request");
+    }
+
+    @Test
+    @DisplayName("Schema_commentsByItem")
+    void testCommentsByItem() {
+
+        commentRepository.findAllByItemId(1);
+        assertIndex("ix_comments_item");
+
+        commentRepository.findAllByItemIdIn(List.of(1, 2, 3));
+        assertIndex("ix_comments_item");
+    }
+
+    @Test
+    @DisplayName("Schema_requestsByRequestor")
+    void testRequestsByRequestor() {
+
+        itemRequestRepository.findAllByRequestorId(1, Sort.by(Sort.Direction.DESC, "created"));
+        assertIndex("ix_requests_requestor_created");
+    }
+
+    @Test
+    @DisplayName("Schema_guardChecks")
+    void testGuardChecks() {
+
+        itemRepository.existsByOwnerId(1);
+        assertIndex("ix_items_owner");
+
+        bookingRepository.existsByBookerIdAndItemIdAndStatusAndEndBefore(1, 1, Status.APPROVED, now);
+        assertIndex("ix_bookings_");
+    }
+
+    private void assertIndex(final String... indexes) {
+        final List<String> selects = sqlRecorder.selects();
+        sqlRecorder.clear();
+        assertEquals(1, selects.size(), () -> "Ожидался один запрос: " + selects);
+        final String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + selects.get(0), String.class))
+                .toLowerCase(Locale.ROOT);
+        assertFalse(plan.contains("tablescan"), () -> "Запрос читает таблицу целиком:\n" + plan);
+        for (String index : indexes) {
+            assertTrue(plan.contains("public." + index), () -> "Индекс " + index + " не используется:\n" + plan);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package ru.practicum.shareit;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.MigrationState;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@Import(TestFixtures.class)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class SchemaMigrationTest {
+
+    Flyway flyway;
+
+    UserService userService;
+
+    JdbcTemplate jdbcTemplate;
+
+    TestFixtures fixtures;
+
+    @Test
+    @DirtiesContext
+    @DisplayName("Schema_migrateAgainKeepsData")
+    void testMigrateAgainKeepsData() {
+
+        final UserDto userDto = new UserDto();
+        userDto.setName("Katia");
+        userDto.setEmail("gromgrommolnia@mail.ru");
+        final Integer userId = userService.save(userDto).getId();
+
+        final MigrateResult result = flyway.migrate();
+
+        assertEquals(0, result.migrationsExecuted);
+        assertTrue(flyway.validateWithResult().validationSuccessful);
+        assertTrue(Arrays.stream(flyway.info().all())
+                .map(MigrationInfo::getState)
+                .allMatch(MigrationState.SUCCESS::equals));
+        assertEquals("Katia", userService.findById(userId).getName());
+    }
+
+    @Test
+    @DirtiesContext
+    @DisplayName("Schema_rawInsertsKeepPooledIdsUnique")
+    void testRawInsertsKeepPooledIdsUnique() {
+
+        final List<Integer> ids = new ArrayList<>();
+        ids.add(fixtures.saveUser("User 0", "user0@mail.ru"));
+        jdbcTemplate.update("INSERT INTO users (name, email) VALUES ('Raw', 'raw@mail.ru')");
+        for (int i = 1; i <= 60; i++) {
+            ids.add(fixtures.saveUser("User " + i, "user" + i + "@mail.ru"));
+        }
+        ids.add(jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = 'raw@mail.ru'", Integer.class));
+
+        assertEquals(ids.size(), ids.stream().distinct().count());
+        assertEquals(1, ids.get(0));
+        assertEquals(2, ids.get(1));
+    }
+
+    @Test
+    @DirtiesContext
+    @DisplayName("Schema_cleanDisabled")
+    void testCleanDisabled() {
+
+        assertThrows(FlywayException.class, flyway::clean);
+    }
+}
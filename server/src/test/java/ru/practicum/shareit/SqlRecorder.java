@@ -0,0 +1,38 @@
+package ru.practicum.shareit;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@TestConfiguration(proxyBeanMethods = false)
+public class SqlRecorder implements StatementInspector {
+
+    private final List<String> statements = new CopyOnWriteArrayList<>();
+
+    @Bean
+    HibernatePropertiesCustomizer sqlRecorderCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(final String sql) {
+        statements.add(sql);
+        return sql;
+    }
+
+    public void clear() {
+        statements.clear();
+    }
+
+    public List<String> selects() {
+        return statements.stream()
+                .filter(sql -> sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("select"))
+                .toList();
+    }
+}
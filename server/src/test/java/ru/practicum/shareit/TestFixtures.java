@@ -0,0 +1,65 @@
+package ru.practicum.shareit;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.test.context.TestComponent;
+import ru.practicum.shareit.booking.dto.BookingRequest;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.service.ItemRequestService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.time.LocalDateTime;
+
+@TestComponent
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class TestFixtures {
+
+    UserService userService;
+
+    ItemService itemService;
+
+    BookingService bookingService;
+
+    ItemRequestService itemRequestService;
+
+    public Integer saveUser(final String name, final String email) {
+        final UserDto userDto = new UserDto();
+        userDto.setName(name);
+        userDto.setEmail(email);
+        return userService.save(userDto).getId();
+    }
+
+    public Integer saveItem(final Integer ownerId) {
+        return saveItem(ownerId, null);
+    }
+
+    public Integer saveItem(final Integer ownerId, final Integer requestId) {
+        final ItemDto itemDto = new ItemDto();
+        itemDto.setName("Vase");
+        itemDto.setDescription("2 litres");
+        itemDto.setAvailable(true);
+        itemDto.setRequestId(requestId);
+        return itemService.save(ownerId, itemDto).getId();
+    }
+
+    public Integer saveBooking(final Integer bookerId, final Integer itemId,
+                               final LocalDateTime start, final LocalDateTime end) {
+        final BookingRequest bookingRequest = new BookingRequest();
+        bookingRequest.setItemId(itemId);
+        bookingRequest.setStart(start);
+        bookingRequest.setEnd(end);
+        return bookingService.saveRequest(bookingRequest, bookerId).getId();
+    }
+
+    public Integer saveItemRequest(final Integer userId, final String description) {
+        final ItemRequestDto itemRequestDto = new ItemRequestDto();
+        itemRequestDto.setDescription(description);
+        return itemRequestService.saveItemRequest(userId, itemRequestDto).getId();
+    }
+}
@@ -0,0 +1,104 @@
+package ru.practicum.shareit.booking;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.TestFixtures;
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
+import ru.practicum.shareit.booking.dto.BookingRequest;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(TestFixtures.class)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class BookingBatchTest {
+
+    static final int BOOKINGS = 200;
+
+    BookingService bookingService;
+
+    ItemService itemService;
+
+    EntityManagerFactory entityManagerFactory;
+
+    TestFixtures fixtures;
+
+    @Test
+    @DirtiesContext
+    @DisplayName("BookingBatch_saveAndApprove")
+    void testSaveAndApprove() {
+
+        final Integer ownerId = fixtures.saveUser("Katia", "gromgrommolnia@mail.ru");
+        final Integer bookerId = fixtures.saveUser("Nika", "moemore@mail.ru");
+        final ItemDto itemDto = new ItemDto();
+        itemDto.setName("Vase");
+        itemDto.setDescription("2 litres");
+        itemDto.setAvailable(true);
+        final Integer itemId = itemService.save(ownerId, itemDto).getId();
+
+        final LocalDateTime start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+        final List<BookingRequest> bookingRequests = new ArrayList<>();
+        for (int i = 0; i < BOOKINGS; i++) {
+            bookingRequests.add(bookingRequest(itemId, start.plusHours(i), start.plusHours(i + 1)));
+        }
+        bookingRequests.add(bookingRequest(itemId, start.plusMinutes(30), start.plusMinutes(90)));
+        bookingRequests.add(bookingRequest(itemId + 1, start, start.plusHours(1)));
+
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        final List<BookingBatchResult> created = bookingService.saveRequests(bookingRequests, bookerId);
+
+        assertEquals(BOOKINGS, created.stream().filter(result -> result.getStatus() == 201).count());
+        assertEquals(409, created.get(BOOKINGS).getStatus());
+        assertEquals(404, created.get(BOOKINGS + 1).getStatus());
+        assertEquals(BOOKINGS, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() < 20,
+                "statements: " + statistics.getPrepareStatementCount());
+
+        final List<Integer> bookingIds = created.subList(0, BOOKINGS).stream()
+                .map(result -> result.getBooking().getId())
+                .toList();
+        assertEquals(BOOKINGS, bookingIds.stream().distinct().count());
+
+        statistics.clear();
+        final List<BookingBatchResult> approved = bookingService.approvedAll(ownerId, bookingIds, true);
+
+        assertTrue(approved.stream().allMatch(result -> result.getStatus() == 200
+                && result.getBooking().getStatus() == Status.APPROVED));
+        assertTrue(statistics.getPrepareStatementCount() < 20,
+                "statements: " + statistics.getPrepareStatementCount());
+        assertEquals(Status.APPROVED, bookingService.findById(bookerId, bookingIds.get(BOOKINGS - 1)).getStatus());
+
+        final List<BookingBatchResult> repeated = bookingService.approvedAll(bookerId, bookingIds.subList(0, 1), true);
+        assertEquals(400, repeated.get(0).getStatus());
+    }
+
+    private BookingRequest bookingRequest(final Integer itemId, final LocalDateTime start, final LocalDateTime end) {
+        final BookingRequest bookingRequest = new BookingRequest();
+        bookingRequest.setItemId(itemId);
+        bookingRequest.setStart(start);
+        bookingRequest.setEnd(end);
+        return bookingRequest;
+    }
+}
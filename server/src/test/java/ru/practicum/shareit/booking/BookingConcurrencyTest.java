@@ -0,0 +1,127 @@
+package ru.practicum.shareit.booking;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.booking.dto.BookingRequest;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.exception.ConflictException;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class BookingConcurrencyTest {
+
+    static final int ATTEMPTS = 2000;
+
+    static final int THREADS = 32;
+
+    static final int HOT_ITEMS = 4;
+
+    BookingService bookingService;
+
+    BookingRepository bookingRepository;
+
+    ItemService itemService;
+
+    UserService userService;
+
+    @Test
+    @DirtiesContext
+    @DisplayName("BookingService_saveRequestConcurrentNoOverlaps")
+    void testSaveRequestConcurrentNoOverlaps() throws Exception {
+
+        final UserDto owner = new UserDto();
+        owner.setName("Katia");
+        owner.setEmail("gromgrommolnia@mail.ru");
+        final Integer ownerId = userService.save(owner).getId();
+
+        final UserDto booker = new UserDto();
+        booker.setName("Nika");
+        booker.setEmail("moemore@mail.ru");
+        final Integer bookerId = userService.save(booker).getId();
+
+        final List<Integer> itemIds = new ArrayList<>();
+        for (int i = 0; i < HOT_ITEMS; i++) {
+            final ItemDto itemDto = new ItemDto();
+            itemDto.setName("Vase " + i);
+            itemDto.setDescription("2 litres");
+            itemDto.setAvailable(true);
+            itemIds.add(itemService.save(ownerId, itemDto).getId());
+        }
+
+        final LocalDateTime base = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+        final Random random = new Random(42);
+        final List<BookingRequest> requests = new ArrayList<>();
+        for (int i = 0; i < ATTEMPTS; i++) {
+            final BookingRequest bookingRequest = new BookingRequest();
+            bookingRequest.setItemId(itemIds.get(random.nextInt(HOT_ITEMS)));
+            bookingRequest.setStart(base.plusHours(random.nextInt(200)));
+            bookingRequest.setEnd(bookingRequest.getStart().plusHours(1 + random.nextInt(6)));
+            requests.add(bookingRequest);
+        }
+
+        final AtomicInteger saved = new AtomicInteger();
+        final AtomicInteger conflicts = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (final BookingRequest bookingRequest : requests) {
+                futures.add(executor.submit(() -> {
+                    try {
+                        bookingService.saveRequest(bookingRequest, bookerId);
+                        saved.incrementAndGet();
+                    } catch (ConflictException exception) {
+                        conflicts.incrementAndGet();
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        final Map<Integer, List<Booking>> bookings = bookingRepository.findAll().stream()
+                .collect(Collectors.groupingBy(booking -> booking.getItem().getId()));
+
+        assertEquals(ATTEMPTS, saved.get() + conflicts.get());
+        assertTrue(conflicts.get() > 0);
+        assertEquals(saved.get(), bookings.values().stream().mapToInt(List::size).sum());
+        for (final List<Booking> itemBookings : bookings.values()) {
+            itemBookings.sort(Comparator.comparing(Booking::getStart));
+            for (int i = 1; i < itemBookings.size(); i++) {
+                assertFalse(itemBookings.get(i).getStart().isBefore(itemBookings.get(i - 1).getEnd()));
+            }
+        }
+    }
+}
@@ -16,17 +16,21 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
 import ru.practicum.shareit.booking.dto.BookingRequest;
 import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.booking.service.BookingService;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -124,7 +128,7 @@ public class BookingControllerTest {
     @DisplayName("BookingController_findAllByUserId")
     public void testFindAllByUserId() throws Exception {
 
-        when(bookingService.findAllByUserId(anyInt(), anyString()))
+        when(bookingService.findAllByUserId(anyInt(), anyString(), anyInt(), isNull(), isNull()))
                 .thenReturn(Collections.singletonList(bookingResponce));
 
         mockMvc.perform(get("/bookings")
@@ -139,7 +143,7 @@ public class BookingControllerTest {
     @DisplayName("BookingController_findAllByOwnerId")
     public void testFindAllByOwnerId() throws Exception {
 
-        when(bookingService.findAllByOwnerId(anyInt(), anyString()))
+        when(bookingService.findAllByOwnerId(anyInt(), anyString(), anyInt(), isNull(), isNull()))
                 .thenReturn(Collections.singletonList(bookingResponce));
 
         mockMvc.perform(get("/bookings/owner")
@@ -148,4 +152,49 @@ public class BookingControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].id").value(1));
     }
-}
\ No newline at end of file
+
+    @Test
+    @Order(5)
+    @DisplayName("BookingController_saveRequests")
+    public void testSaveRequests() throws Exception {
+
+        final BookingBatchResult bookingBatchResult = new BookingBatchResult();
+        bookingBatchResult.setIndex(0);
+        bookingBatchResult.setStatus(201);
+        bookingBatchResult.setBooking(bookingResponce);
+
+        when(bookingService.saveRequests(anyList(), anyInt()))
+                .thenReturn(List.of(bookingBatchResult));
+
+        mockMvc.perform(post("/bookings/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(bookingRequest)))
+                        .header(HEADER, 1))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value(201))
+                .andExpect(jsonPath("$[0].booking.id").value(1));
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("BookingController_approvedAll")
+    public void testApprovedAll() throws Exception {
+
+        final BookingBatchResult bookingBatchResult = new BookingBatchResult();
+        bookingBatchResult.setIndex(0);
+        bookingBatchResult.setStatus(404);
+        bookingBatchResult.setError("Такого запроса на бронирование не было");
+
+        when(bookingService.approvedAll(1, List.of(7), true))
+                .thenReturn(List.of(bookingBatchResult));
+
+        mockMvc.perform(patch("/bookings/approve-batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[7]")
+                        .param("approved", "true")
+                        .header(HEADER, 1))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value(404))
+                .andExpect(jsonPath("$[0].error").value("Такого запроса на бронирование не было"));
+    }
+}
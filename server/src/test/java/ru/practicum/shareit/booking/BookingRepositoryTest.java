@@ -5,19 +5,28 @@ import lombok.experimental.FieldDefaults;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.test.annotation.DirtiesContext;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.booking.repository.BookingRepository;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -36,8 +45,18 @@ public class BookingRepositoryTest {
     @Autowired
     UserRepository userRepository;
 
+    @Autowired
+    ItemRequestRepository itemRequestRepository;
+
+    @Autowired
+    TestEntityManager entityManager;
+
     final Sort sort = Sort.by(Sort.Direction.DESC, "start");
 
+    final ScrollPosition position = ScrollPosition.offset();
+
+    final Limit limit = Limit.of(10);
+
     @Test
     @DisplayName("BookingRepository_empty")
     public void testEmpty() {
@@ -84,11 +103,75 @@ public class BookingRepositoryTest {
         booking1.setEnd(LocalDateTime.now().plusDays(5));
         bookingRepository.save(booking1);
 
-        final List<Booking> bookings = bookingRepository.findAllByBookerId(2, sort);
+        final List<Booking> bookings = bookingRepository.findAllByBookerId(2, position, sort, limit).getContent();
 
         assertEquals(1, bookings.getFirst().getId());
     }
 
+    @Test
+    @DirtiesContext
+    @DisplayName("BookingRepository_findAllByBookerIdKeyset")
+    public void testFindAllByBookerIdKeyset() {
+
+        final User user1 = new User();
+        user1.setName("Katia");
+        user1.setEmail("gromgrommolnia@yandex.ru");
+        userRepository.save(user1);
+
+        final User user2 = new User();
+        user2.setName("Mia");
+        user2.setEmail("midnight@yandex.ru");
+        userRepository.save(user2);
+
+        final Item item1 = new Item();
+        item1.setName("Vase");
+        item1.setDescription("2 litres");
+        item1.setOwner(user1);
+        item1.setAvailable(true);
+        itemRepository.save(item1);
+
+        final LocalDateTime start = LocalDateTime.now().plusDays(2);
+
+        final Booking booking1 = new Booking();
+        booking1.setBooker(user2);
+        booking1.setItem(item1);
+        booking1.setStatus(Status.WAITING);
+        booking1.setStart(start);
+        booking1.setEnd(start.plusDays(3));
+        bookingRepository.save(booking1);
+
+        final Booking booking2 = new Booking();
+        booking2.setBooker(user2);
+        booking2.setItem(item1);
+        booking2.setStatus(Status.WAITING);
+        booking2.setStart(start);
+        booking2.setEnd(start.plusDays(1));
+        bookingRepository.save(booking2);
+
+        final Booking booking3 = new Booking();
+        booking3.setBooker(user2);
+        booking3.setItem(item1);
+        booking3.setStatus(Status.WAITING);
+        booking3.setStart(start.plusDays(10));
+        booking3.setEnd(start.plusDays(12));
+        bookingRepository.save(booking3);
+
+        final Sort keysetSort = Sort.by(Sort.Direction.DESC, "start", "id");
+        final LocalDateTime cursor = bookingRepository.findStartByIdAndBookerId(booking2.getId(), user2.getId())
+                .orElseThrow();
+
+        final Window<Booking> first = bookingRepository.findAllByBookerId(2, ScrollPosition.keyset(),
+                keysetSort, Limit.of(2));
+        final Window<Booking> second = bookingRepository.findAllByBookerId(2,
+                ScrollPosition.forward(Map.of("start", cursor, "id", booking2.getId())),
+                keysetSort, Limit.of(2));
+
+        assertEquals(List.of(3, 2), first.stream().map(Booking::getId).toList());
+        assertTrue(first.hasNext());
+        assertEquals(List.of(1), second.stream().map(Booking::getId).toList());
+        assertTrue(bookingRepository.findStartByIdAndBookerId(booking2.getId(), user1.getId()).isEmpty());
+    }
+
     @Test
     @DirtiesContext
     @DisplayName("BookingRepository_findAllByBookerIdAndEndBeforeAndStartAfter")
@@ -135,7 +218,7 @@ public class BookingRepositoryTest {
         bookingRepository.save(booking2);
 
         final List<Booking> bookings = bookingRepository.findAllByBookerIdAndStartBeforeAndEndAfter(2,
-                LocalDateTime.now(), LocalDateTime.now(), sort);
+                LocalDateTime.now(), LocalDateTime.now(), position, sort, limit).getContent();
 
         assertEquals(1, bookings.size());
         assertEquals("Vase", bookings.getFirst().getItem().getName());
@@ -187,7 +270,7 @@ public class BookingRepositoryTest {
         bookingRepository.save(booking2);
 
         final List<Booking> bookings = bookingRepository.findAllByBookerIdAndEndBefore(2,
-                LocalDateTime.now(), sort);
+                LocalDateTime.now(), position, sort, limit).getContent();
 
         assertEquals(1, bookings.size());
         assertEquals("Vase", bookings.getFirst().getItem().getName());
@@ -239,7 +322,7 @@ public class BookingRepositoryTest {
         bookingRepository.save(booking2);
 
         final List<Booking> bookings = bookingRepository.findAllByBookerIdAndStartAfter(2,
-                LocalDateTime.now(), sort);
+                LocalDateTime.now(), position, sort, limit).getContent();
 
         assertEquals(1, bookings.size());
         assertEquals("Table", bookings.getFirst().getItem().getName());
@@ -290,7 +373,8 @@ public class BookingRepositoryTest {
         booking2.setEnd(LocalDateTime.now().plusDays(5));
         bookingRepository.save(booking2);
 
-        final List<Booking> bookings = bookingRepository.findAllByBookerIdAndStatusIs(2, Status.WAITING, sort);
+        final List<Booking> bookings = bookingRepository
+                .findAllByBookerIdAndStatusIs(2, Status.WAITING, position, sort, limit).getContent();
 
         assertEquals(1, bookings.size());
         assertEquals("Table", bookings.getFirst().getItem().getName());
@@ -341,7 +425,8 @@ public class BookingRepositoryTest {
         booking2.setEnd(LocalDateTime.now().plusDays(5));
         bookingRepository.save(booking2);
 
-        final List<Booking> bookings = bookingRepository.findAllByBookerIdAndStatusIs(2, Status.REJECTED, sort);
+        final List<Booking> bookings = bookingRepository
+                .findAllByBookerIdAndStatusIs(2, Status.REJECTED, position, sort, limit).getContent();
 
         assertEquals(1, bookings.size());
         assertEquals("Table", bookings.getFirst().getItem().getName());
@@ -387,7 +472,7 @@ public class BookingRepositoryTest {
         booking1.setEnd(LocalDateTime.now().plusDays(5));
         bookingRepository.save(booking1);
 
-        final List<Booking> bookings = bookingRepository.findAllByItemOwnerId(1, sort);
+        final List<Booking> bookings = bookingRepository.findAllByItemOwnerId(1, position, sort, limit).getContent();
 
         assertEquals(1, bookings.getFirst().getId());
     }
@@ -438,7 +523,7 @@ public class BookingRepositoryTest {
         bookingRepository.save(booking2);
 
         final List<Booking> bookings = bookingRepository.findAllByItemOwnerIdAndStartBeforeAndEndAfter(1,
-                LocalDateTime.now(), LocalDateTime.now(), sort);
+                LocalDateTime.now(), LocalDateTime.now(), position, sort, limit).getContent();
 
         assertEquals(1, bookings.size());
         assertEquals("Vase", bookings.getFirst().getItem().getName());
@@ -491,7 +576,7 @@ public class BookingRepositoryTest {
         bookingRepository.save(booking2);
 
         final List<Booking> bookings = bookingRepository.findAllByItemOwnerIdAndEndBefore(1,
-                LocalDateTime.now(), sort);
+                LocalDateTime.now(), position, sort, limit).getContent();
 
         assertEquals(1, bookings.size());
         assertEquals("Vase", bookings.getFirst().getItem().getName());
@@ -544,7 +629,7 @@ public class BookingRepositoryTest {
         bookingRepository.save(booking2);
 
         final List<Booking> bookings = bookingRepository.findAllByItemOwnerIdAndStartAfter(1,
-                LocalDateTime.now(), sort);
+                LocalDateTime.now(), position, sort, limit).getContent();
 
         assertEquals(1, bookings.size());
         assertEquals("Table", bookings.getFirst().getItem().getName());
@@ -596,7 +681,8 @@ public class BookingRepositoryTest {
         booking2.setEnd(LocalDateTime.now().plusDays(5));
         bookingRepository.save(booking2);
 
-        final List<Booking> bookings = bookingRepository.findAllByItemOwnerIdAndStatusIs(1, Status.WAITING, sort);
+        final List<Booking> bookings = bookingRepository
+                .findAllByItemOwnerIdAndStatusIs(1, Status.WAITING, position, sort, limit).getContent();
 
         assertEquals(1, bookings.size());
         assertEquals("Table", bookings.getFirst().getItem().getName());
@@ -649,7 +735,7 @@ public class BookingRepositoryTest {
         bookingRepository.save(booking2);
 
         final List<Booking> bookings = bookingRepository
-                .findAllByItemOwnerIdAndStatusIs(1, Status.REJECTED, sort);
+                .findAllByItemOwnerIdAndStatusIs(1, Status.REJECTED, position, sort, limit).getContent();
 
         assertEquals(1, bookings.size());
         assertEquals("Table", bookings.getFirst().getItem().getName());
@@ -856,4 +942,67 @@ public class BookingRepositoryTest {
 
         assertTrue(bookingOp.isEmpty());
     }
+
+    @Test
+    @DirtiesContext
+    @DisplayName("BookingRepository_findAllByItemOwnerIdSingleStatement")
+    public void testFindAllByItemOwnerIdSingleStatement() {
+
+        final User owner = new User();
+        owner.setName("Katia");
+        owner.setEmail("gromgrommolnia@yandex.ru");
+        userRepository.save(owner);
+
+        final User requestor = new User();
+        requestor.setName("Nika");
+        requestor.setEmail("moemore@yandex.ru");
+        userRepository.save(requestor);
+
+        final ItemRequest itemRequest = new ItemRequest();
+        itemRequest.setDescription("big vase");
+        itemRequest.setRequestor(requestor);
+        itemRequest.setCreated(LocalDateTime.now());
+        itemRequestRepository.save(itemRequest);
+
+        for (int i = 0; i < 5; i++) {
+            final User booker = new User();
+            booker.setName("Booker" + i);
+            booker.setEmail("booker" + i + "@yandex.ru");
+            userRepository.save(booker);
+
+            final Item item = new Item();
+            item.setName("Vase" + i);
+            item.setDescription("2 litres");
+            item.setOwner(owner);
+            item.setAvailable(true);
+            item.setRequest(itemRequest);
+            itemRepository.save(item);
+
+            final Booking booking = new Booking();
+            booking.setBooker(booker);
+            booking.setItem(item);
+            booking.setStatus(Status.WAITING);
+            booking.setStart(LocalDateTime.now().plusDays(i + 1));
+            booking.setEnd(LocalDateTime.now().plusDays(i + 2));
+            bookingRepository.save(booking);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        final Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        final List<Booking> bookings = bookingRepository.findAllByItemOwnerId(owner.getId(), position, sort, limit)
+                .getContent();
+        bookings.forEach(booking -> {
+            booking.getBooker().getName();
+            booking.getItem().getOwner().getName();
+            booking.getItem().getRequest().getRequestor().getName();
+        });
+
+        assertEquals(5, bookings.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
 }
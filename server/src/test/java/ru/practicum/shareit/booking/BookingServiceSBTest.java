@@ -137,7 +137,7 @@ public class BookingServiceSBTest {
     @DisplayName("BookingService_findAllByUserId")
     void testFindAllByUserId() {
 
-        final List<BookingResponce> bookingResponces = bookingService.findAllByUserId(2, "all");
+        final List<BookingResponce> bookingResponces = bookingService.findAllByUserId(2, "all", 0, 10, null);
 
         assertEquals(2, bookingResponces.size());
     }
@@ -148,8 +148,25 @@ public class BookingServiceSBTest {
     @DisplayName("BookingService_findAllByOwnerId")
     void testFindAllByOwnerId() {
 
-        final List<BookingResponce> bookingResponces = bookingService.findAllByOwnerId(1, "all");
+        final List<BookingResponce> bookingResponces = bookingService.findAllByOwnerId(1, "all", 0, 10, null);
 
         assertEquals(1, bookingResponces.size());
     }
+
+    @Test
+    @Order(6)
+    @DirtiesContext
+    @DisplayName("BookingService_findAllByUserIdPage")
+    void testFindAllByUserIdPage() {
+
+        final List<BookingResponce> firstPage = bookingService.findAllByUserId(2, "all", 0, 1, null);
+        final List<BookingResponce> nextPage = bookingService.findAllByUserId(2, "all", 0, 1,
+                firstPage.getFirst().getId());
+        final List<BookingResponce> offsetPage = bookingService.findAllByUserId(2, "all", 1, 1, null);
+
+        assertEquals(1, firstPage.size());
+        assertEquals(2, firstPage.getFirst().getId());
+        assertEquals(1, nextPage.getFirst().getId());
+        assertEquals(1, offsetPage.getFirst().getId());
+    }
 }
@@ -8,7 +8,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
 import ru.practicum.shareit.booking.dto.BookingMapper;
 import ru.practicum.shareit.booking.dto.BookingRequest;
 import ru.practicum.shareit.booking.dto.BookingResponce;
@@ -17,24 +22,36 @@ import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.booking.repository.BookingRepository;
 import ru.practicum.shareit.booking.service.BookingService;
 import ru.practicum.shareit.booking.service.BookingServiceImpl;
+import ru.practicum.shareit.booking.service.DatabaseBookingFinder;
+import ru.practicum.shareit.booking.service.ItemBookingSummaries;
+import ru.practicum.shareit.booking.service.ItemLocks;
+import ru.practicum.shareit.cache.LookupCache;
+import ru.practicum.shareit.exception.ConflictException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.exception.ValidationException;
+import ru.practicum.shareit.guard.EntityGuard;
 import ru.practicum.shareit.item.dto.ItemMapper;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.dto.UserMapper;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -54,7 +71,22 @@ public class BookingServiceTest {
     @Mock
     ItemRepository itemRepository;
 
-    final Sort sort = Sort.by(Sort.Direction.DESC, "start");
+    @Mock
+    ItemLocks itemLocks;
+
+    @Mock
+    ItemBookingSummaries itemBookingSummaries;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    LookupCache lookupCache;
+
+    @Mock
+    ItemRequestRepository itemRequestRepository;
+
+    final Sort sort = Sort.by(Sort.Direction.DESC, "start", "id");
 
     User user1;
 
@@ -78,7 +110,9 @@ public class BookingServiceTest {
         ItemMapper itemMapper = new ItemMapper();
 
         bookingService = new BookingServiceImpl(bookingRepository, bookingMapper,
-                userRepository, userMapper, itemRepository, itemMapper);
+                userRepository, userMapper, itemRepository, itemMapper, itemLocks, itemBookingSummaries,
+                new DatabaseBookingFinder(bookingRepository), eventPublisher,
+                new EntityGuard(lookupCache, bookingRepository, itemRequestRepository));
 
         user1 = new User();
         user1.setName("Mia");
@@ -200,7 +234,7 @@ public class BookingServiceTest {
 
         when(userRepository.findById(1)).thenReturn(Optional.of(user1));
         when(itemRepository.findById(1)).thenReturn(Optional.of(item1));
-        when(bookingRepository.save(bookingMapper.toBooking(bookingRequest1, user1, item1))).thenReturn(booking);
+        when(bookingRepository.saveAndFlush(bookingMapper.toBooking(bookingRequest1, user1, item1))).thenReturn(booking);
 
         final BookingResponce bookingResponce = bookingService.saveRequest(bookingRequest1, 1);
 
@@ -209,6 +243,80 @@ public class BookingServiceTest {
         assertEquals(Status.WAITING, bookingResponce.getStatus());
     }
 
+    @Test
+    @DisplayName("BookingService_createOverlapping")
+    void testCreateOverlapping() {
+
+        item1.setId(1);
+        when(userRepository.findById(1)).thenReturn(Optional.of(user1));
+        when(itemRepository.findById(1)).thenReturn(Optional.of(item1));
+        when(bookingRepository.existsByItemIdAndStatusInAndStartBeforeAndEndAfter(1,
+                List.of(Status.WAITING, Status.APPROVED), bookingRequest1.getEnd(), bookingRequest1.getStart()))
+                .thenReturn(true);
+
+        assertThrows(
+                ConflictException.class,
+                () -> bookingService.saveRequest(bookingRequest1, 1)
+        );
+        verify(itemLocks).lockUntilCompletion(1);
+        verify(bookingRepository, never()).saveAndFlush(any(Booking.class));
+    }
+
+    @Test
+    @DisplayName("BookingService_createBatch")
+    void testCreateBatch() {
+
+        item1.setId(1);
+        item2.setId(2);
+        final BookingRequest unavailable = new BookingRequest();
+        unavailable.setItemId(2);
+        unavailable.setStart(bookingRequest1.getStart());
+        unavailable.setEnd(bookingRequest1.getEnd());
+        final BookingRequest missing = new BookingRequest();
+        missing.setItemId(3);
+        missing.setStart(bookingRequest1.getStart());
+        missing.setEnd(bookingRequest1.getEnd());
+        final BookingRequest overlapping = new BookingRequest();
+        overlapping.setItemId(1);
+        overlapping.setStart(bookingRequest1.getStart().plusDays(1));
+        overlapping.setEnd(bookingRequest1.getEnd().plusDays(1));
+        when(userRepository.findById(1)).thenReturn(Optional.of(user1));
+        when(itemRepository.findAllById(any())).thenReturn(List.of(item1, item2));
+
+        final List<BookingBatchResult> results = bookingService.saveRequests(
+                List.of(bookingRequest1, unavailable, missing, overlapping), 1);
+
+        assertEquals(List.of(201, 400, 404, 409), results.stream().map(BookingBatchResult::getStatus).toList());
+        assertEquals("Table", results.get(0).getBooking().getItem().getName());
+        verify(itemLocks).lockAllUntilCompletion(Set.of(1));
+        verify(bookingRepository).saveAllAndFlush(List.of(bookingMapper.toBooking(bookingRequest1, user1, item1)));
+    }
+
+    @Test
+    @DisplayName("BookingService_approvedBatch")
+    void testApprovedBatch() {
+
+        item1.setId(1);
+        when(bookingRepository.findAllByIdIn(Set.of(1, 3))).thenReturn(List.of(booking));
+
+        final List<BookingBatchResult> results = bookingService.approvedAll(1, List.of(1, 3, 1), true);
+
+        assertEquals(List.of(200, 404, 400), results.stream().map(BookingBatchResult::getStatus).toList());
+        assertEquals(Status.APPROVED, results.get(0).getBooking().getStatus());
+        verify(itemRepository).incrementViewVersions(Set.of(1));
+        verify(itemBookingSummaries).applyApproved(eq(List.of(booking)), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("BookingService_batchEmpty")
+    void testBatchEmpty() {
+
+        assertThrows(
+                ValidationException.class,
+                () -> bookingService.approvedAll(1, List.of(), true)
+        );
+    }
+
     @Test
     @DisplayName("BookingService_approvedNotBooking")
     void testApprovedNotBooking() {
@@ -319,7 +427,7 @@ public class BookingServiceTest {
 
         assertThrows(
                 NotFoundException.class,
-                () -> bookingService.findAllByUserId(1, "all")
+                () -> bookingService.findAllByUserId(1, "all", 0, 10, null)
         );
     }
 
@@ -327,10 +435,11 @@ public class BookingServiceTest {
     @DisplayName("BookingService_findAllByUserIdAll")
     void testFindAllByUserIdAll() {
 
-        when(userRepository.findById(1)).thenReturn(Optional.of(user1));
-        when(bookingRepository.findAllByBookerId(1, sort)).thenReturn(List.of(booking, booking1));
+        when(lookupCache.userExists(1)).thenReturn(true);
+        when(bookingRepository.findAllByBookerId(eq(1), any(ScrollPosition.class), eq(sort), any(Limit.class)))
+                .thenReturn(Window.from(List.of(booking, booking1), ScrollPosition::offset));
 
-        final List<BookingResponce> bookingResponces = bookingService.findAllByUserId(1, "all");
+        final List<BookingResponce> bookingResponces = bookingService.findAllByUserId(1, "all", 0, 10, null);
 
         assertEquals(2, bookingResponces.size());
     }
@@ -347,12 +456,13 @@ public class BookingServiceTest {
         booking2.setStart(LocalDateTime.now().minusDays(2));
         booking2.setEnd(LocalDateTime.now().plusDays(5));
 
-        when(userRepository.findById(1)).thenReturn(Optional.of(user1));
+        when(lookupCache.userExists(1)).thenReturn(true);
         when(bookingRepository.findAllByBookerIdAndStartBeforeAndEndAfter(anyInt(), any(LocalDateTime.class),
-                any(LocalDateTime.class), any(Sort.class)))
-                .thenReturn(List.of(booking2));
+                any(LocalDateTime.class), any(ScrollPosition.class),
+                any(Sort.class), any(Limit.class)))
+                .thenReturn(Window.from(List.of(booking2), ScrollPosition::offset));
 
-        final List<BookingResponce> bookingResponces = bookingService.findAllByUserId(1, "CURRENT");
+        final List<BookingResponce> bookingResponces = bookingService.findAllByUserId(1, "CURRENT", 0, 10, null);
 
         assertEquals(1, bookingResponces.size());
         assertTrue(bookingResponces.getFirst().getStart().isBefore(LocalDateTime.now()));
@@ -363,11 +473,12 @@ public class BookingServiceTest {
     @DisplayName("BookingService_findAllByUserIdPast")
     void testFindAllByUserIdPast() {
 
-        when(userRepository.findById(1)).thenReturn(Optional.of(user1));
-        when(bookingRepository.findAllByBookerIdAndEndBefore(anyInt(), any(LocalDateTime.class), any(Sort.class)))
-                .thenReturn(List.of(booking1));
+        when(lookupCache.userExists(1)).thenReturn(true);
+        when(bookingRepository.findAllByBookerIdAndEndBefore(anyInt(), any(LocalDateTime.class),
+                any(ScrollPosition.class), any(Sort.class), any(Limit.class)))
+                .thenReturn(Window.from(List.of(booking1), ScrollPosition::offset));
 
-        final List<BookingResponce> bookingResponces = bookingService.findAllByUserId(1, "PAST");
+        final List<BookingResponce> bookingResponces = bookingService.findAllByUserId(1, "PAST", 0, 10, null);
 
         assertEquals(1, bookingResponces.size());
         assertTrue(bookingResponces.getFirst().getEnd().isBefore(LocalDateTime.now()));
@@ -377,11 +488,12 @@ public class BookingServiceTest {
     @DisplayName("BookingService_findAllByUserIdFuture")
     void testFindAllByUserIdFuture() {
 
-        when(userRepository.findById(1)).thenReturn(Optional.of(user1));
-        when(bookingRepository.findAllByBookerIdAndStartAfter(anyInt(), any(LocalDateTime.class), any(Sort.class)))
-                .thenReturn(List.of(booking));
+        when(lookupCache.userExists(1)).thenReturn(true);
+        when(bookingRepository.findAllByBookerIdAndStartAfter(anyInt(), any(LocalDateTime.class),
+                any(ScrollPosition.class), any(Sort.class), any(Limit.class)))
+                .thenReturn(Window.from(List.of(booking), ScrollPosition::offset));
 
-        final List<BookingResponce> bookingResponces = bookingService.findAllByUserId(1, "FUTURE");
+        final List<BookingResponce> bookingResponces = bookingService.findAllByUserId(1, "FUTURE", 0, 10, null);
 
         assertEquals(1, bookingResponces.size());
         assertTrue(bookingResponces.getFirst().getStart().isAfter(LocalDateTime.now()));
@@ -391,11 +503,12 @@ public class BookingServiceTest {
     @DisplayName("BookingService_findAllByUserIdWaiting")
     void testFindAllByUserIdWaiting() {
 
-        when(userRepository.findById(1)).thenReturn(Optional.of(user1));
-        when(bookingRepository.findAllByBookerIdAndStatusIs(1, Status.WAITING, sort))
-                .thenReturn(List.of(booking));
+        when(lookupCache.userExists(1)).thenReturn(true);
+        when(bookingRepository.findAllByBookerIdAndStatusIs(eq(1), eq(Status.WAITING),
+                any(ScrollPosition.class), eq(sort), any(Limit.class)))
+                .thenReturn(Window.from(List.of(booking), ScrollPosition::offset));
 
-        final List<BookingResponce> bookingResponces = bookingService.findAllByUserId(1, "WAITING");
+        final List<BookingResponce> bookingResponces = bookingService.findAllByUserId(1, "WAITING", 0, 10, null);
 
         assertEquals(1, bookingResponces.size());
         assertEquals(Status.WAITING, bookingResponces.getFirst().getStatus());
@@ -413,11 +526,12 @@ public class BookingServiceTest {
         booking2.setStart(LocalDateTime.now().minusDays(2));
         booking2.setEnd(LocalDateTime.now().plusDays(5));
 
-        when(userRepository.findById(1)).thenReturn(Optional.of(user1));
-        when(bookingRepository.findAllByBookerIdAndStatusIs(1, Status.REJECTED, sort))
-                .thenReturn(List.of(booking2));
+        when(lookupCache.userExists(1)).thenReturn(true);
+        when(bookingRepository.findAllByBookerIdAndStatusIs(eq(1), eq(Status.REJECTED),
+                any(ScrollPosition.class), eq(sort), any(Limit.class)))
+                .thenReturn(Window.from(List.of(booking2), ScrollPosition::offset));
 
-        final List<BookingResponce> bookingResponces = bookingService.findAllByUserId(1, "REJECTED");
+        final List<BookingResponce> bookingResponces = bookingService.findAllByUserId(1, "REJECTED", 0, 10, null);
 
         assertEquals(1, bookingResponces.size());
         assertEquals(Status.REJECTED, bookingResponces.getFirst().getStatus());
@@ -427,11 +541,79 @@ public class BookingServiceTest {
     @DisplayName("BookingService_findAllByUserIdValid")
     void testFindAllByUserIdValid() {
 
-        when(userRepository.findById(1)).thenReturn(Optional.of(user1));
+        when(lookupCache.userExists(1)).thenReturn(true);
 
         assertThrows(
                 ValidationException.class,
-                () -> bookingService.findAllByUserId(1, "bla")
+                () -> bookingService.findAllByUserId(1, "bla", 0, 10, null)
+        );
+    }
+
+    @Test
+    @DisplayName("BookingService_findAllByUserIdUnpaged")
+    void testFindAllByUserIdUnpaged() {
+
+        when(lookupCache.userExists(1)).thenReturn(true);
+        when(bookingRepository.findAllByBookerId(eq(1), eq(ScrollPosition.offset()), eq(sort),
+                eq(Limit.of(Integer.MAX_VALUE))))
+                .thenReturn(Window.from(List.of(booking, booking1), ScrollPosition::offset));
+
+        final List<BookingResponce> bookingResponces = bookingService.findAllByUserId(1, "all", 0, null, null);
+
+        assertEquals(2, bookingResponces.size());
+    }
+
+    @Test
+    @DisplayName("BookingService_findAllByUserIdAfter")
+    void testFindAllByUserIdAfter() {
+
+        when(lookupCache.userExists(1)).thenReturn(true);
+        when(bookingRepository.findStartByIdAndBookerId(2, 1)).thenReturn(Optional.of(booking1.getStart()));
+        when(bookingRepository.findAllByBookerId(eq(1), eq(ScrollPosition.forward(Map.of("start",
+                booking1.getStart(), "id", 2))), eq(sort), eq(Limit.of(1))))
+                .thenReturn(Window.from(List.of(booking), ScrollPosition::offset));
+
+        final List<BookingResponce> bookingResponces = bookingService.findAllByUserId(1, "all", 0, 1, 2);
+
+        assertEquals(1, bookingResponces.size());
+        assertEquals(1, bookingResponces.getFirst().getId());
+    }
+
+    @Test
+    @DisplayName("BookingService_findAllByOwnerIdAfterOtherOwnersBooking")
+    void testFindAllByOwnerIdAfterOtherOwnersBooking() {
+
+        when(lookupCache.userExists(1)).thenReturn(true);
+        when(lookupCache.hasItems(1)).thenReturn(true);
+
+        assertThrows(
+                NotFoundException.class,
+                () -> bookingService.findAllByOwnerId(1, "all", 0, 10, 2)
+        );
+        verify(bookingRepository).findStartByIdAndOwnerId(2, 1);
+    }
+
+    @Test
+    @DisplayName("BookingService_findAllByUserIdAfterNotBooking")
+    void testFindAllByUserIdAfterNotBooking() {
+
+        when(lookupCache.userExists(1)).thenReturn(true);
+
+        assertThrows(
+                NotFoundException.class,
+                () -> bookingService.findAllByUserId(1, "all", 0, 10, 5)
+        );
+    }
+
+    @Test
+    @DisplayName("BookingService_findAllByUserIdNotValidPage")
+    void testFindAllByUserIdNotValidPage() {
+
+        when(lookupCache.userExists(1)).thenReturn(true);
+
+        assertThrows(
+                ValidationException.class,
+                () -> bookingService.findAllByUserId(1, "all", -1, 0, null)
         );
     }
 
@@ -441,7 +623,7 @@ public class BookingServiceTest {
 
         assertThrows(
                 NotFoundException.class,
-                () -> bookingService.findAllByOwnerId(1, "all")
+                () -> bookingService.findAllByOwnerId(1, "all", 0, 10, null)
         );
     }
 
@@ -449,11 +631,11 @@ public class BookingServiceTest {
     @DisplayName("BookingService_findAllByOwnerIdNotItem")
     void testFindAllByOwnerIdNotItem() {
 
-        when(userRepository.findById(1)).thenReturn(Optional.of(user1));
+        when(lookupCache.userExists(1)).thenReturn(true);
 
         assertThrows(
                 ValidationException.class,
-                () -> bookingService.findAllByOwnerId(1, "all")
+                () -> bookingService.findAllByOwnerId(1, "all", 0, 10, null)
         );
     }
 
@@ -461,11 +643,12 @@ public class BookingServiceTest {
     @DisplayName("BookingService_findAllByOwnerIdAll")
     void testFindAllByOwnerIdAll() {
 
-        when(userRepository.findById(1)).thenReturn(Optional.of(user1));
-        when(itemRepository.findAllByOwnerId(1)).thenReturn(List.of(item1, item2));
-        when(bookingRepository.findAllByItemOwnerId(1, sort)).thenReturn(List.of(booking, booking1));
+        when(lookupCache.userExists(1)).thenReturn(true);
+        when(lookupCache.hasItems(1)).thenReturn(true);
+        when(bookingRepository.findAllByItemOwnerId(eq(1), any(ScrollPosition.class), eq(sort), any(Limit.class)))
+                .thenReturn(Window.from(List.of(booking, booking1), ScrollPosition::offset));
 
-        final List<BookingResponce> bookingResponces = bookingService.findAllByOwnerId(1, "all");
+        final List<BookingResponce> bookingResponces = bookingService.findAllByOwnerId(1, "all", 0, 10, null);
 
         assertEquals(2, bookingResponces.size());
     }
@@ -482,13 +665,14 @@ public class BookingServiceTest {
         booking2.setStart(LocalDateTime.now().minusDays(2));
         booking2.setEnd(LocalDateTime.now().plusDays(5));
 
-        when(userRepository.findById(1)).thenReturn(Optional.of(user1));
-        when(itemRepository.findAllByOwnerId(1)).thenReturn(List.of(item1, item2));
+        when(lookupCache.userExists(1)).thenReturn(true);
+        when(lookupCache.hasItems(1)).thenReturn(true);
         when(bookingRepository.findAllByItemOwnerIdAndStartBeforeAndEndAfter(anyInt(), any(LocalDateTime.class),
-                any(LocalDateTime.class), any(Sort.class)))
-                .thenReturn(List.of(booking2));
+                any(LocalDateTime.class), any(ScrollPosition.class),
+                any(Sort.class), any(Limit.class)))
+                .thenReturn(Window.from(List.of(booking2), ScrollPosition::offset));
 
-        final List<BookingResponce> bookingResponces = bookingService.findAllByOwnerId(1, "CURRENT");
+        final List<BookingResponce> bookingResponces = bookingService.findAllByOwnerId(1, "CURRENT", 0, 10, null);
 
         assertEquals(1, bookingResponces.size());
         assertTrue(bookingResponces.getFirst().getStart().isBefore(LocalDateTime.now()));
@@ -499,12 +683,13 @@ public class BookingServiceTest {
     @DisplayName("BookingService_findAllByOwnerIdPast")
     void testFindAllByOwnerIdPast() {
 
-        when(userRepository.findById(1)).thenReturn(Optional.of(user1));
-        when(itemRepository.findAllByOwnerId(1)).thenReturn(List.of(item1, item2));
-        when(bookingRepository.findAllByItemOwnerIdAndEndBefore(anyInt(), any(LocalDateTime.class), any(Sort.class)))
-                .thenReturn(List.of(booking1));
+        when(lookupCache.userExists(1)).thenReturn(true);
+        when(lookupCache.hasItems(1)).thenReturn(true);
+        when(bookingRepository.findAllByItemOwnerIdAndEndBefore(anyInt(), any(LocalDateTime.class),
+                any(ScrollPosition.class), any(Sort.class), any(Limit.class)))
+                .thenReturn(Window.from(List.of(booking1), ScrollPosition::offset));
 
-        final List<BookingResponce> bookingResponces = bookingService.findAllByOwnerId(1, "PAST");
+        final List<BookingResponce> bookingResponces = bookingService.findAllByOwnerId(1, "PAST", 0, 10, null);
 
         assertEquals(1, bookingResponces.size());
         assertTrue(bookingResponces.getFirst().getEnd().isBefore(LocalDateTime.now()));
@@ -514,12 +699,13 @@ public class BookingServiceTest {
     @DisplayName("BookingService_findAllByOwnerIdFuture")
     void testFindAllByOwnerIdFuture() {
 
-        when(userRepository.findById(1)).thenReturn(Optional.of(user1));
-        when(itemRepository.findAllByOwnerId(1)).thenReturn(List.of(item1, item2));
-        when(bookingRepository.findAllByItemOwnerIdAndStartAfter(anyInt(), any(LocalDateTime.class), any(Sort.class)))
-                .thenReturn(List.of(booking));
+        when(lookupCache.userExists(1)).thenReturn(true);
+        when(lookupCache.hasItems(1)).thenReturn(true);
+        when(bookingRepository.findAllByItemOwnerIdAndStartAfter(anyInt(), any(LocalDateTime.class),
+                any(ScrollPosition.class), any(Sort.class), any(Limit.class)))
+                .thenReturn(Window.from(List.of(booking), ScrollPosition::offset));
 
-        final List<BookingResponce> bookingResponces = bookingService.findAllByOwnerId(1, "FUTURE");
+        final List<BookingResponce> bookingResponces = bookingService.findAllByOwnerId(1, "FUTURE", 0, 10, null);
 
         assertEquals(1, bookingResponces.size());
         assertTrue(bookingResponces.getFirst().getStart().isAfter(LocalDateTime.now()));
@@ -529,12 +715,13 @@ public class BookingServiceTest {
     @DisplayName("BookingService_findAllByOwnerIdWaiting")
     void testFindAllByOwnerIdWaiting() {
 
-        when(userRepository.findById(1)).thenReturn(Optional.of(user1));
-        when(itemRepository.findAllByOwnerId(1)).thenReturn(List.of(item1, item2));
-        when(bookingRepository.findAllByItemOwnerIdAndStatusIs(1, Status.WAITING, sort))
-                .thenReturn(List.of(booking));
+        when(lookupCache.userExists(1)).thenReturn(true);
+        when(lookupCache.hasItems(1)).thenReturn(true);
+        when(bookingRepository.findAllByItemOwnerIdAndStatusIs(eq(1), eq(Status.WAITING),
+                any(ScrollPosition.class), eq(sort), any(Limit.class)))
+                .thenReturn(Window.from(List.of(booking), ScrollPosition::offset));
 
-        final List<BookingResponce> bookingResponces = bookingService.findAllByOwnerId(1, "WAITING");
+        final List<BookingResponce> bookingResponces = bookingService.findAllByOwnerId(1, "WAITING", 0, 10, null);
 
         assertEquals(1, bookingResponces.size());
         assertEquals(Status.WAITING, bookingResponces.getFirst().getStatus());
@@ -552,12 +739,13 @@ public class BookingServiceTest {
         booking2.setStart(LocalDateTime.now().minusDays(2));
         booking2.setEnd(LocalDateTime.now().plusDays(5));
 
-        when(userRepository.findById(1)).thenReturn(Optional.of(user1));
-        when(itemRepository.findAllByOwnerId(1)).thenReturn(List.of(item1, item2));
-        when(bookingRepository.findAllByItemOwnerIdAndStatusIs(1, Status.REJECTED, sort))
-                .thenReturn(List.of(booking2));
+        when(lookupCache.userExists(1)).thenReturn(true);
+        when(lookupCache.hasItems(1)).thenReturn(true);
+        when(bookingRepository.findAllByItemOwnerIdAndStatusIs(eq(1), eq(Status.REJECTED),
+                any(ScrollPosition.class), eq(sort), any(Limit.class)))
+                .thenReturn(Window.from(List.of(booking2), ScrollPosition::offset));
 
-        final List<BookingResponce> bookingResponces = bookingService.findAllByOwnerId(1, "REJECTED");
+        final List<BookingResponce> bookingResponces = bookingService.findAllByOwnerId(1, "REJECTED", 0, 10, null);
 
         assertEquals(1, bookingResponces.size());
         assertEquals(Status.REJECTED, bookingResponces.getFirst().getStatus());
@@ -567,12 +755,12 @@ public class BookingServiceTest {
     @DisplayName("BookingService_findAllByOwnerIdValid")
     void testFindAllByOwnerIdValid() {
 
-        when(userRepository.findById(1)).thenReturn(Optional.of(user1));
-        when(itemRepository.findAllByOwnerId(1)).thenReturn(List.of(item1, item2));
+        when(lookupCache.userExists(1)).thenReturn(true);
+        when(lookupCache.hasItems(1)).thenReturn(true);
 
         assertThrows(
                 ValidationException.class,
-                () -> bookingService.findAllByOwnerId(1, "bla")
+                () -> bookingService.findAllByOwnerId(1, "bla", 0, 10, null)
         );
     }
 }
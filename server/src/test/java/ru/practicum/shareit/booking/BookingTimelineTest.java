@@ -0,0 +1,158 @@
+package ru.practicum.shareit.booking;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.TestFixtures;
+import ru.practicum.shareit.booking.dto.BookingResponce;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.service.BookingFinder;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.booking.service.DatabaseBookingFinder;
+import ru.practicum.shareit.booking.service.TimelineBookingFinder;
+import ru.practicum.shareit.exception.ValidationException;
+import ru.practicum.shareit.item.service.ItemService;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@Import(TestFixtures.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class BookingTimelineTest {
+
+    static final List<String> STATES = List.of("all", "CURRENT", "PAST", "FUTURE", "WAITING", "REJECTED");
+
+    @Autowired
+    ItemService itemService;
+
+    @Autowired
+    BookingService bookingService;
+
+    @Autowired
+    BookingRepository bookingRepository;
+
+    @Autowired
+    BookingFinder bookingFinder;
+
+    @Autowired
+    TestFixtures fixtures;
+
+    @Test
+    @DirtiesContext
+    @DisplayName("BookingTimeline_matchesDatabase")
+    void testMatchesDatabase() {
+
+        assertInstanceOf(TimelineBookingFinder.class, bookingFinder);
+        final BookingFinder database = new DatabaseBookingFinder(bookingRepository);
+
+        final Integer ownerId = fixtures.saveUser("Katia", "gromgrommolnia@mail.ru");
+        final Integer bookerId = fixtures.saveUser("Nika", "moemore@mail.ru");
+        final Integer vaseId = fixtures.saveItem(ownerId);
+        final Integer tableId = fixtures.saveItem(ownerId);
+        final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+        final Integer pastId = fixtures.saveBooking(bookerId, vaseId, now.minusDays(3), now.minusDays(2));
+        fixtures.saveBooking(bookerId, tableId, now.minusDays(3), now.minusDays(1));
+        final Integer currentId = fixtures.saveBooking(bookerId, vaseId, now.minusDays(1), now.plusDays(1));
+        fixtures.saveBooking(bookerId, tableId, now.plusDays(1), now.plusDays(2));
+        final Integer futureId = fixtures.saveBooking(bookerId, vaseId, now.plusDays(1), now.plusDays(3));
+        fixtures.saveBooking(bookerId, tableId, now.plusDays(5), now.plusDays(6));
+
+        assertFinders(database, bookerId, ownerId);
+
+        bookingService.approved(ownerId, pastId, true);
+        bookingService.approved(ownerId, currentId, true);
+        bookingService.approved(ownerId, futureId, false);
+
+        assertEquals(List.of(futureId), ids(bookingFinder.findAllByBookerId(bookerId, "REJECTED",
+                ScrollPosition.offset(), 10)));
+        assertFinders(database, bookerId, ownerId);
+    }
+
+    @Test
+    @DirtiesContext
+    @DisplayName("BookingTimeline_pagesByKeyset")
+    void testPagesByKeyset() {
+
+        final Integer ownerId = fixtures.saveUser("Katia", "gromgrommolnia@mail.ru");
+        final Integer bookerId = fixtures.saveUser("Nika", "moemore@mail.ru");
+        final Integer vaseId = fixtures.saveItem(ownerId);
+        final Integer tableId = fixtures.saveItem(ownerId);
+        final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+        final Integer firstId = fixtures.saveBooking(bookerId, vaseId, now.plusDays(1), now.plusDays(2));
+        final Integer secondId = fixtures.saveBooking(bookerId, tableId, now.plusDays(1), now.plusDays(3));
+        final Integer thirdId = fixtures.saveBooking(bookerId, vaseId, now.plusDays(4), now.plusDays(5));
+
+        final List<BookingResponce> page = bookingService.findAllByOwnerId(ownerId, "FUTURE", 0, 2, null);
+        assertEquals(List.of(thirdId, secondId), page.stream().map(BookingResponce::getId).toList());
+        final List<BookingResponce> next = bookingService.findAllByOwnerId(ownerId, "FUTURE", 0, 2, secondId);
+        assertEquals(List.of(firstId), next.stream().map(BookingResponce::getId).toList());
+        assertEquals(List.of(firstId), bookingService.findAllByUserId(bookerId, "all", 2, 2, null).stream()
+                .map(BookingResponce::getId).toList());
+
+        assertThrows(ValidationException.class,
+                () -> bookingFinder.findAllByBookerId(bookerId, "UNKNOWN", ScrollPosition.offset(), 10));
+    }
+
+    @Test
+    @DirtiesContext
+    @DisplayName("BookingTimeline_itemDeletedInvalidatesBooker")
+    void testItemDeletedInvalidatesBooker() {
+
+        final Integer ownerId = fixtures.saveUser("Katia", "gromgrommolnia@mail.ru");
+        final Integer bookerId = fixtures.saveUser("Nika", "moemore@mail.ru");
+        final Integer vaseId = fixtures.saveItem(ownerId);
+        final Integer tableId = fixtures.saveItem(ownerId);
+        final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+        final Integer tableBookingId = fixtures.saveBooking(bookerId, tableId, now.plusDays(1), now.plusDays(2));
+        final Integer vaseBookingId = fixtures.saveBooking(bookerId, vaseId, now.plusDays(3), now.plusDays(4));
+        assertEquals(List.of(vaseBookingId), ids(bookingFinder.findAllByBookerId(bookerId, "all",
+                ScrollPosition.offset(), 1)));
+
+        itemService.delete(vaseId);
+
+        assertEquals(List.of(tableBookingId), ids(bookingFinder.findAllByBookerId(bookerId, "all",
+                ScrollPosition.offset(), 1)));
+        assertEquals(List.of(tableBookingId), ids(bookingFinder.findAllByOwnerId(ownerId, "all",
+                ScrollPosition.offset(), 1)));
+    }
+
+    private void assertFinders(final BookingFinder database, final Integer bookerId, final Integer ownerId) {
+        for (final String state : STATES) {
+            for (final ScrollPosition position : List.of(ScrollPosition.offset(), ScrollPosition.offset(1))) {
+                assertEquals(ids(database.findAllByBookerId(bookerId, state, position, 2)),
+                        ids(bookingFinder.findAllByBookerId(bookerId, state, position, 2)), state);
+                assertEquals(ids(database.findAllByOwnerId(ownerId, state, position, 2)),
+                        ids(bookingFinder.findAllByOwnerId(ownerId, state, position, 2)), state);
+            }
+            final List<Booking> all = database.findAllByOwnerId(ownerId, state, ScrollPosition.offset(), 10);
+            if (!all.isEmpty()) {
+                final Booking first = all.get(0);
+                final ScrollPosition after = ScrollPosition.forward(
+                        Map.of("start", first.getStart(), "id", first.getId()));
+                assertEquals(ids(database.findAllByOwnerId(ownerId, state, after, 10)),
+                        ids(bookingFinder.findAllByOwnerId(ownerId, state, after, 10)), state);
+            }
+        }
+    }
+
+    private List<Integer> ids(final List<Booking> bookings) {
+        return bookings.stream().map(Booking::getId).toList();
+    }
+}
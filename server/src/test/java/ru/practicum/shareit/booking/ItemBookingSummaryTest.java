@@ -0,0 +1,139 @@
+package ru.practicum.shareit.booking;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.TestFixtures;
+import ru.practicum.shareit.booking.model.ItemBookingSummary;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.repository.ItemBookingSummaryRepository;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.booking.service.ItemBookingSummaries;
+import ru.practicum.shareit.item.dto.ItemResponce;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+@Import(TestFixtures.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ItemBookingSummaryTest {
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    ItemService itemService;
+
+    @Autowired
+    BookingService bookingService;
+
+    @Autowired
+    ItemBookingSummaries itemBookingSummaries;
+
+    @Autowired
+    ItemBookingSummaryRepository itemBookingSummaryRepository;
+
+    @SpyBean
+    BookingRepository bookingRepository;
+
+    @Autowired
+    TestFixtures fixtures;
+
+    @Test
+    @DirtiesContext
+    @DisplayName("ItemBookingSummary_maintainedOnApproval")
+    void testMaintainedOnApproval() {
+
+        final Integer ownerId = fixtures.saveUser("Katia", "gromgrommolnia@mail.ru");
+        final Integer bookerId = fixtures.saveUser("Nika", "moemore@mail.ru");
+        final Integer itemId = fixtures.saveItem(ownerId);
+        final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+        final Integer pastId = fixtures.saveBooking(bookerId, itemId, now.minusDays(3), now.minusDays(2));
+        final Integer nextId = fixtures.saveBooking(bookerId, itemId, now.plusDays(2), now.plusDays(3));
+        final Integer laterId = fixtures.saveBooking(bookerId, itemId, now.plusDays(4), now.plusDays(5));
+        final Integer rejectedId = fixtures.saveBooking(bookerId, itemId, now.plusDays(1),
+                now.plusDays(2).minusHours(1));
+        bookingService.approved(ownerId, laterId, true);
+        bookingService.approvedAll(ownerId, List.of(pastId, nextId), true);
+        bookingService.approved(ownerId, rejectedId, false);
+
+        final ItemBookingSummary summary = itemBookingSummaryRepository.findById(itemId).orElseThrow();
+        assertEquals(now.minusDays(2), summary.getLastBooking());
+        assertEquals(now.plusDays(2), summary.getNextBooking());
+        assertEquals(now.plusDays(2), summary.getValidUntil());
+
+        clearInvocations(bookingRepository);
+        final ItemResponce itemResponce = itemService.findById(ownerId, itemId);
+
+        assertEquals(now.minusDays(2), itemResponce.getLastBooking());
+        assertEquals(now.plusDays(2), itemResponce.getNextBooking());
+        verify(bookingRepository, never()).findBookingDates(any(), any(), any());
+        assertEquals(1, itemService.getItemsByOwnerId(ownerId).size());
+        verify(bookingRepository, never()).findBookingDates(any(), any(), any());
+    }
+
+    @Test
+    @DirtiesContext
+    @DisplayName("ItemBookingSummary_rolledForwardAsTimePasses")
+    void testRolledForwardAsTimePasses() throws Exception {
+
+        final Integer ownerId = fixtures.saveUser("Katia", "gromgrommolnia@mail.ru");
+        final Integer bookerId = fixtures.saveUser("Nika", "moemore@mail.ru");
+        final Integer itemId = fixtures.saveItem(ownerId);
+        final LocalDateTime end = LocalDateTime.now().plusSeconds(1).truncatedTo(ChronoUnit.MILLIS);
+
+        bookingService.approved(ownerId, fixtures.saveBooking(bookerId, itemId, end.minusDays(1), end), true);
+        assertEquals(end, itemBookingSummaryRepository.findById(itemId).orElseThrow().getValidUntil());
+
+        Thread.sleep(1200);
+
+        assertTrue(itemBookingSummaryRepository.findById(itemId).orElseThrow().isStale(LocalDateTime.now()));
+        assertEquals(end, itemService.findById(ownerId, itemId).getLastBooking());
+
+        itemBookingSummaries.sweep();
+
+        final ItemBookingSummary summary = itemBookingSummaryRepository.findById(itemId).orElseThrow();
+        assertEquals(end, summary.getLastBooking());
+        assertNull(summary.getNextBooking());
+        assertFalse(summary.isStale(LocalDateTime.now()));
+    }
+
+    @Test
+    @DirtiesContext
+    @DisplayName("ItemBookingSummary_expiredWhenBookerDeleted")
+    void testExpiredWhenBookerDeleted() {
+
+        final Integer ownerId = fixtures.saveUser("Katia", "gromgrommolnia@mail.ru");
+        final Integer bookerId = fixtures.saveUser("Nika", "moemore@mail.ru");
+        final Integer itemId = fixtures.saveItem(ownerId);
+        final LocalDateTime now = LocalDateTime.now();
+
+        final Integer bookingId = fixtures.saveBooking(bookerId, itemId, now.minusDays(2), now.minusDays(1));
+        bookingService.approved(ownerId, bookingId, true);
+        userService.delete(bookerId);
+
+        assertNull(itemService.findById(ownerId, itemId).getLastBooking());
+        itemBookingSummaries.sweep();
+        assertNull(itemBookingSummaryRepository.findById(itemId).orElseThrow().getLastBooking());
+    }
+}
@@ -0,0 +1,248 @@
+package ru.practicum.shareit.cache;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.TestFixtures;
+import ru.practicum.shareit.booking.dto.BookingRequest;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.service.ItemRequestService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@Import(TestFixtures.class)
+@AutoConfigureMockMvc
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ConditionalGetTest {
+
+    static final String HEADER = "X-Sharer-User-Id";
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    ItemService itemService;
+
+    @Autowired
+    BookingService bookingService;
+
+    @Autowired
+    ItemRequestService itemRequestService;
+
+    @SpyBean
+    CommentRepository commentRepository;
+
+    @SpyBean
+    BookingRepository bookingRepository;
+
+    @Autowired
+    ItemRepository itemRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    TestFixtures fixtures;
+
+    @Test
+    @DirtiesContext
+    @DisplayName("ConditionalGet_user")
+    void testUser() throws Exception {
+
+        final Integer userId = fixtures.saveUser("Katia", "gromgrommolnia@mail.ru");
+
+        final String etag = etag("/users/" + userId, userId);
+
+        mockMvc.perform(get("/users/" + userId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        final UserDto userDto = new UserDto();
+        userDto.setName("Nika");
+        userService.update(userId, userDto);
+
+        mockMvc.perform(get("/users/" + userId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Nika"));
+        assertNotEquals(etag, etag("/users/" + userId, userId));
+    }
+
+    @Test
+    @DirtiesContext
+    @DisplayName("ConditionalGet_itemSkipsSubQueries")
+    void testItemSkipsSubQueries() throws Exception {
+
+        final Integer ownerId = fixtures.saveUser("Katia", "gromgrommolnia@mail.ru");
+        final Integer userId = fixtures.saveUser("Nika", "moemore@mail.ru");
+        final Integer itemId = fixtures.saveItem(ownerId);
+
+        final String etag = etag("/items/" + itemId, userId);
+        final String ownerEtag = etag("/items/" + itemId, ownerId);
+        assertNotEquals(etag, ownerEtag);
+        clearInvocations(commentRepository, bookingRepository);
+
+        mockMvc.perform(get("/items/" + itemId).header(HEADER, userId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+        mockMvc.perform(get("/items/" + itemId).header(HEADER, ownerId).header(HttpHeaders.IF_NONE_MATCH, ownerEtag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, ownerEtag));
+        mockMvc.perform(get("/items/" + itemId).header(HEADER, ownerId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+
+        verify(commentRepository).findAllByItemId(anyInt());
+        verify(bookingRepository, never()).findBookingDates(any(), any(), any());
+    }
+
+    @Test
+    @DirtiesContext
+    @DisplayName("ConditionalGet_itemChangesWithBookingsAndComments")
+    void testItemChangesWithBookingsAndComments() throws Exception {
+
+        final Integer ownerId = fixtures.saveUser("Katia", "gromgrommolnia@mail.ru");
+        final Integer bookerId = fixtures.saveUser("Nika", "moemore@mail.ru");
+        final Integer itemId = fixtures.saveItem(ownerId);
+
+        final BookingRequest past = new BookingRequest();
+        past.setItemId(itemId);
+        past.setStart(LocalDateTime.now().minusDays(2));
+        past.setEnd(LocalDateTime.now().minusDays(1));
+        final Integer pastId = bookingService.saveRequest(past, bookerId).getId();
+
+        final BookingRequest future = new BookingRequest();
+        future.setItemId(itemId);
+        future.setStart(LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS));
+        future.setEnd(LocalDateTime.now().plusDays(2));
+        final Integer futureId = bookingService.saveRequest(future, bookerId).getId();
+
+        final String waiting = etag("/items/" + itemId, ownerId);
+        assertEquals(waiting, etag("/items/" + itemId, ownerId));
+
+        bookingService.approved(ownerId, pastId, true);
+        bookingService.approved(ownerId, futureId, true);
+        final String approved = etag("/items/" + itemId, ownerId);
+        assertNotEquals(waiting, approved);
+        assertEquals("\"2-" + future.getStart().toEpochSecond(ZoneOffset.UTC) + "\"", approved);
+
+        final String viewed = etag("/items/" + itemId, bookerId);
+        final CommentDto commentDto = new CommentDto();
+        commentDto.setText("Good vase");
+        itemService.saveComment(bookerId, itemId, commentDto);
+        final String commented = etag("/items/" + itemId, bookerId);
+        assertNotEquals(viewed, commented);
+
+        final UserDto userDto = new UserDto();
+        userDto.setName("Mia");
+        userService.update(bookerId, userDto);
+        mockMvc.perform(get("/items/" + itemId).header(HEADER, bookerId).header(HttpHeaders.IF_NONE_MATCH, commented))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments[0].authorName").value("Mia"));
+
+        final String stale = "\"" + approved.substring(1, approved.indexOf('-')) + "-1\"";
+        mockMvc.perform(get("/items/" + itemId).header(HEADER, ownerId).header(HttpHeaders.IF_NONE_MATCH, stale))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DirtiesContext
+    @DisplayName("ConditionalGet_viewVersionDoesNotLockItem")
+    void testViewVersionDoesNotLockItem() throws Exception {
+
+        final Integer ownerId = fixtures.saveUser("Katia", "gromgrommolnia@mail.ru");
+        final Integer itemId = fixtures.saveItem(ownerId);
+        final String etag = etag("/items/" + itemId, ownerId);
+        final TransactionTemplate newTransaction = new TransactionTemplate(transactionManager);
+        newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        newTransaction.executeWithoutResult(status -> {
+            final Item item = itemRepository.findById(itemId).orElseThrow();
+            newTransaction.executeWithoutResult(inner -> itemRepository.incrementViewVersion(itemId));
+            item.setName("Big vase");
+        });
+
+        mockMvc.perform(get("/items/" + itemId).header(HEADER, ownerId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Big vase"));
+    }
+
+    @Test
+    @DirtiesContext
+    @DisplayName("ConditionalGet_requestChangesWithItems")
+    void testRequestChangesWithItems() throws Exception {
+
+        final Integer requestorId = fixtures.saveUser("Katia", "gromgrommolnia@mail.ru");
+        final Integer ownerId = fixtures.saveUser("Nika", "moemore@mail.ru");
+        final ItemRequestDto itemRequestDto = new ItemRequestDto();
+        itemRequestDto.setDescription("Need a vase");
+        final Integer requestId = itemRequestService.saveItemRequest(requestorId, itemRequestDto).getId();
+
+        final String etag = etag("/requests/" + requestId, requestorId);
+        mockMvc.perform(get("/requests/" + requestId).header(HEADER, requestorId)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        final Integer itemId = fixtures.saveItem(ownerId, requestId);
+
+        mockMvc.perform(get("/requests/" + requestId).header(HEADER, requestorId)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].itemId").value(itemId));
+
+        final String answered = etag("/requests/" + requestId, requestorId);
+        userService.delete(ownerId);
+
+        mockMvc.perform(get("/requests/" + requestId).header(HEADER, requestorId)
+                        .header(HttpHeaders.IF_NONE_MATCH, answered))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isEmpty());
+    }
+
+    private String etag(final String path, final Integer userId) throws Exception {
+        final MvcResult result = mockMvc.perform(get(path).header(HEADER, userId))
+                .andExpect(status().isOk())
+                .andReturn();
+        return result.getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}
@@ -0,0 +1,89 @@
+package ru.practicum.shareit.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class LookupCacheTest {
+
+    LookupCache lookupCache;
+
+    UserService userService;
+
+    ItemService itemService;
+
+    MeterRegistry meterRegistry;
+
+    @Test
+    @DirtiesContext
+    @DisplayName("LookupCache_userExists")
+    void testUserExists() {
+
+        final UserDto userDto = new UserDto();
+        userDto.setName("Katia");
+        userDto.setEmail("gromgrommolnia@mail.ru");
+        final Integer userId = userService.save(userDto).getId();
+
+        assertTrue(lookupCache.userExists(userId));
+        assertTrue(lookupCache.userExists(userId));
+        assertEquals(1.0, hits(LookupCache.USER_EXISTS));
+
+        userService.delete(userId);
+
+        assertFalse(lookupCache.userExists(userId));
+    }
+
+    @Test
+    @DirtiesContext
+    @DisplayName("LookupCache_itemOwnerAndHasItems")
+    void testItemOwnerAndHasItems() {
+
+        final UserDto userDto = new UserDto();
+        userDto.setName("Katia");
+        userDto.setEmail("gromgrommolnia@mail.ru");
+        final Integer ownerId = userService.save(userDto).getId();
+
+        assertFalse(lookupCache.hasItems(ownerId));
+
+        final ItemDto itemDto = new ItemDto();
+        itemDto.setName("Vase");
+        itemDto.setDescription("2 litres");
+        itemDto.setAvailable(true);
+        final Integer itemId = itemService.save(ownerId, itemDto).getId();
+
+        assertTrue(lookupCache.hasItems(ownerId));
+        assertEquals(ownerId, lookupCache.itemOwnerId(itemId).orElseThrow());
+        assertEquals(ownerId, lookupCache.itemOwnerId(itemId).orElseThrow());
+        assertEquals(1.0, hits(LookupCache.ITEM_OWNERS));
+
+        itemService.delete(itemId);
+
+        assertFalse(lookupCache.hasItems(ownerId));
+        assertTrue(lookupCache.itemOwnerId(itemId).isEmpty());
+    }
+
+    private double hits(final String cacheName) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", cacheName)
+                .tag("result", "hit")
+                .functionCounter()
+                .count();
+    }
+}
@@ -0,0 +1,90 @@
+package ru.practicum.shareit.guard;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.SqlRecorder;
+import ru.practicum.shareit.TestFixtures;
+import ru.practicum.shareit.exception.ForbiddenException;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.exception.ValidationException;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({SqlRecorder.class, TestFixtures.class})
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class EntityGuardTest {
+
+    EntityGuard entityGuard;
+
+    EntityManagerFactory entityManagerFactory;
+
+    SqlRecorder sqlRecorder;
+
+    TestFixtures fixtures;
+
+    @Test
+    @DirtiesContext
+    @DisplayName("EntityGuard_checks")
+    void testChecks() {
+
+        final Integer ownerId = fixtures.saveUser("Katia", "gromgrommolnia@mail.ru");
+        final Integer userId = fixtures.saveUser("Nika", "moemore@mail.ru");
+        final Integer itemId = fixtures.saveItem(ownerId);
+
+        assertDoesNotThrow(() -> entityGuard.requireUser(ownerId));
+        assertDoesNotThrow(() -> entityGuard.requireItems(ownerId));
+        assertDoesNotThrow(() -> entityGuard.requireItemOwner(ownerId, itemId));
+        assertThrows(NotFoundException.class, () -> entityGuard.requireUser(1000));
+        assertThrows(ValidationException.class, () -> entityGuard.requireItems(userId));
+        assertThrows(ForbiddenException.class, () -> entityGuard.requireItemOwner(userId, itemId));
+        assertThrows(NotFoundException.class, () -> entityGuard.requireItemOwner(ownerId, 1000));
+        assertThrows(NotFoundException.class, () -> entityGuard.requireRequest(1000));
+        assertThrows(ValidationException.class, () -> entityGuard.requireFinishedBooking(userId, itemId));
+    }
+
+    @Test
+    @DirtiesContext
+    @DisplayName("EntityGuard_checksDoNotLoadEntities")
+    void testChecksDoNotLoadEntities() {
+
+        final Integer ownerId = fixtures.saveUser("Katia", "gromgrommolnia@mail.ru");
+        final Integer userId = fixtures.saveUser("Nika", "moemore@mail.ru");
+        final Integer itemId = fixtures.saveItem(ownerId);
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        sqlRecorder.clear();
+
+        entityGuard.requireUser(userId);
+        entityGuard.requireItems(ownerId);
+        entityGuard.requireItemOwner(ownerId, itemId);
+        assertThrows(NotFoundException.class, () -> entityGuard.requireRequest(1000));
+        assertThrows(ValidationException.class, () -> entityGuard.requireFinishedBooking(userId, itemId));
+
+        final List<String> selects = sqlRecorder.selects();
+        assertEquals(5, selects.size(), () -> "Запросы: " + selects);
+        assertEquals(0, statistics.getEntityLoadCount());
+        for (String sql : selects) {
+            final String lower = sql.toLowerCase(Locale.ROOT);
+            assertFalse(lower.contains("name") || lower.contains("description") || lower.contains("email"),
+                    () -> "Проверка читает поля сущности: " + sql);
+        }
+    }
+}
@@ -113,7 +113,7 @@ class ItemControllerTest {
     @DisplayName("ItemController_getItemsByOwnerId")
     void testGetItemsByOwnerId() throws Exception {
 
-        final List<ItemDto> items = List.of(new ItemDto());
+        final List<ItemResponce> items = List.of(new ItemResponce());
 
         when(itemService.getItemsByOwnerId(anyInt())).thenReturn(items);
 
@@ -133,14 +133,14 @@ class ItemControllerTest {
 
         final List<ItemDto> items = List.of(new ItemDto());
 
-        when(itemService.search(anyString())).thenReturn(items);
+        when(itemService.search(anyString(), anyInt(), anyInt())).thenReturn(items);
 
         mockMvc.perform(get("/items/search")
                         .param("text", "Test"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.length()").value(1));
 
-        verify(itemService, times(1)).search(anyString());
+        verify(itemService, times(1)).search(anyString(), anyInt(), anyInt());
     }
 
     @Test
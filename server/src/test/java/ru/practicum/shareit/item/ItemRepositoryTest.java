@@ -6,6 +6,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.annotation.DirtiesContext;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
@@ -110,7 +111,7 @@ public class ItemRepositoryTest {
         item3.setAvailable(true);
         itemRepository.save(item3);
 
-        List<Item> items = itemRepository.search("Vase");
+        List<Item> items = itemRepository.search("vase", PageRequest.of(0, 10));
 
         assertEquals(2, items.size());
     }
@@ -144,7 +145,7 @@ public class ItemRepositoryTest {
         item1.setAvailable(true);
         itemRepository.save(item1);
 
-        final List<Item> items = itemRepository.search("Sun");
+        final List<Item> items = itemRepository.search("sun", PageRequest.of(0, 10));
 
         assertTrue(items.isEmpty());
     }
@@ -204,4 +205,42 @@ public class ItemRepositoryTest {
         assertEquals(1, items.size());
         assertEquals("Vase", items.getFirst().getName());
     }
+
+    @Test
+    @DirtiesContext
+    @DisplayName("ItemRepository_search_NameMatchesFirst")
+    public void testSearch_NameMatchesFirst() {
+
+        final User user = new User();
+        user.setName("Katia");
+        user.setEmail("gromgrommolnia@yandex.ru");
+        userRepository.save(user);
+
+        final Item item = new Item();
+        item.setName("Shelf");
+        item.setDescription("for a vase");
+        item.setOwner(user);
+        item.setAvailable(true);
+        itemRepository.save(item);
+
+        final Item item1 = new Item();
+        item1.setName("Vase");
+        item1.setDescription("2 litres");
+        item1.setOwner(user);
+        item1.setAvailable(true);
+        itemRepository.save(item1);
+
+        final Item item2 = new Item();
+        item2.setName("Vase Gold");
+        item2.setDescription("3 litres");
+        item2.setOwner(user);
+        item2.setAvailable(false);
+        itemRepository.save(item2);
+
+        final List<Item> firstPage = itemRepository.search("vase", PageRequest.of(0, 1));
+        final List<Item> secondPage = itemRepository.search("vase", PageRequest.of(1, 1));
+
+        assertEquals("Vase", firstPage.getFirst().getName());
+        assertEquals("Shelf", secondPage.getFirst().getName());
+    }
 }
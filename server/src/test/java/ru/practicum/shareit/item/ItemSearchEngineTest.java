@@ -0,0 +1,184 @@
+package ru.practicum.shareit.item;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.item.dto.ItemSearchDocument;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemChangedEvent;
+import ru.practicum.shareit.item.service.ItemDeletedEvent;
+import ru.practicum.shareit.item.service.MemoryItemSearchEngine;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ItemSearchEngineTest {
+
+    @Mock
+    ItemRepository itemRepository;
+
+    MemoryItemSearchEngine itemSearchEngine;
+
+    List<Item> items;
+
+    @BeforeEach
+    public void setUp() {
+
+        items = new ArrayList<>(List.of(
+                item(1, "Shelf", "for a vase", true),
+                item(2, "Vase", "2 litres", true),
+                item(3, "Vase Gold", "3 litres", false),
+                item(4, "Spoons", "Silver", true)
+        ));
+
+        when(itemRepository.streamSearchDocuments()).thenReturn(items.stream().map(ItemSearchEngineTest::document));
+        lenient().when(itemRepository.findAllById(anyCollection())).thenAnswer(invocation -> {
+            final Collection<Integer> ids = invocation.getArgument(0);
+            return items.stream().filter(item -> ids.contains(item.getId())).toList();
+        });
+
+        itemSearchEngine = new MemoryItemSearchEngine(itemRepository);
+        itemSearchEngine.rebuild();
+    }
+
+    @Test
+    @DisplayName("ItemSearchEngine_searchSubstring")
+    void testSearchSubstring() {
+
+        final List<Item> result = itemSearchEngine.search("s", 0, 10);
+
+        assertEquals(List.of(1, 2, 4), result.stream().map(Item::getId).toList());
+    }
+
+    @Test
+    @DisplayName("ItemSearchEngine_searchLongSubstring")
+    void testSearchLongSubstring() {
+
+        assertEquals(List.of(4), itemSearchEngine.search("poon", 0, 10).stream().map(Item::getId).toList());
+        assertEquals(List.of(2), itemSearchEngine.search("litre", 0, 10).stream().map(Item::getId).toList());
+        assertTrue(itemSearchEngine.search("spoonz", 0, 10).isEmpty());
+
+        itemSearchEngine.onItemDeleted(new ItemDeletedEvent(4, 1, List.of()));
+
+        assertTrue(itemSearchEngine.search("poon", 0, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("ItemSearchEngine_searchNameMatchesFirst")
+    void testSearchNameMatchesFirst() {
+
+        final List<Item> result = itemSearchEngine.search("vase", 0, 10);
+
+        assertEquals(List.of(2, 1), result.stream().map(Item::getId).toList());
+    }
+
+    @Test
+    @DisplayName("ItemSearchEngine_searchPage")
+    void testSearchPage() {
+
+        final List<Item> result = itemSearchEngine.search("vase", 1, 1);
+
+        assertEquals(List.of(1), result.stream().map(Item::getId).toList());
+    }
+
+    @Test
+    @DisplayName("ItemSearchEngine_searchAllTerms")
+    void testSearchAllTerms() {
+
+        assertEquals(1, itemSearchEngine.search("spoon silver", 0, 10).size());
+        assertTrue(itemSearchEngine.search("spoon gold", 0, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("ItemSearchEngine_index")
+    void testIndex() {
+
+        itemSearchEngine.onItemChanged(new ItemChangedEvent(4, 1, "Forks", "Silver", true));
+
+        assertTrue(itemSearchEngine.search("spoon", 0, 10).isEmpty());
+        assertEquals(1, itemSearchEngine.search("fork", 0, 10).size());
+    }
+
+    @Test
+    @DisplayName("ItemSearchEngine_remove")
+    void testRemove() {
+
+        itemSearchEngine.onItemDeleted(new ItemDeletedEvent(2, 1, List.of()));
+
+        assertEquals(List.of(1), itemSearchEngine.search("vase", 0, 10).stream().map(Item::getId).toList());
+    }
+
+    @Test
+    @DisplayName("ItemSearchEngine_searchNotAvailable")
+    void testSearchNotAvailable() {
+
+        itemSearchEngine.onItemChanged(new ItemChangedEvent(2, 1, "Vase", "2 litres", false));
+
+        assertEquals(List.of(1), itemSearchEngine.search("vase", 0, 10).stream().map(Item::getId).toList());
+    }
+
+    @Test
+    @DisplayName("ItemSearchEngine_searchCyrillicLatinFolding")
+    void testSearchCyrillicLatinFolding() {
+
+        items.add(item(5, "Cтол", "Ёлочный", true));
+        itemSearchEngine.onItemChanged(new ItemChangedEvent(5, 1, "Cтол", "Ёлочный", true));
+
+        assertEquals(1, itemSearchEngine.search("стол", 0, 10).size());
+        assertEquals(1, itemSearchEngine.search("елочный", 0, 10).size());
+        assertEquals(1, itemSearchEngine.search("vаsе", 0, 10).stream().filter(item -> item.getId() == 2).count());
+    }
+
+    private static ItemSearchDocument document(final Item item) {
+        return new ItemSearchDocument() {
+            @Override
+            public Integer getId() {
+                return item.getId();
+            }
+
+            @Override
+            public Integer getOwnerId() {
+                return 1;
+            }
+
+            @Override
+            public String getName() {
+                return item.getName();
+            }
+
+            @Override
+            public String getDescription() {
+                return item.getDescription();
+            }
+
+            @Override
+            public Boolean getAvailable() {
+                return item.getAvailable();
+            }
+        };
+    }
+
+    private static Item item(final Integer id, final String name, final String description, final Boolean available) {
+        final Item item = new Item();
+        item.setId(id);
+        item.setName(name);
+        item.setDescription(description);
+        item.setAvailable(available);
+        return item;
+    }
+}
@@ -0,0 +1,71 @@
+package ru.practicum.shareit.item;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.DatabaseItemSearchEngine;
+import ru.practicum.shareit.item.service.ItemSearchEngine;
+import ru.practicum.shareit.item.service.MemoryItemSearchEngine;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ItemSearchPagingTest {
+
+    @Autowired
+    ItemRepository itemRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Test
+    @DirtiesContext
+    @DisplayName("ItemSearchEngine_pageFromNotMultipleOfSize")
+    void testPageFromNotMultipleOfSize() {
+
+        final User owner = new User();
+        owner.setName("Katia");
+        owner.setEmail("gromgrommolnia@yandex.ru");
+        userRepository.save(owner);
+
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            expected.add(saveItem(owner, "Vase " + i, "glass").getId());
+        }
+        for (int i = 0; i < 8; i++) {
+            expected.add(saveItem(owner, "Shelf " + i, "for a vase").getId());
+        }
+
+        final MemoryItemSearchEngine memoryEngine = new MemoryItemSearchEngine(itemRepository);
+        memoryEngine.rebuild();
+        final ItemSearchEngine databaseEngine = new DatabaseItemSearchEngine(itemRepository);
+
+        assertEquals(expected.subList(5, 15), ids(databaseEngine.search("vase", 5, 10)));
+        assertEquals(expected.subList(5, 15), ids(memoryEngine.search("vase", 5, 10)));
+    }
+
+    private Item saveItem(final User owner, final String name, final String description) {
+        final Item item = new Item();
+        item.setName(name);
+        item.setDescription(description);
+        item.setOwner(owner);
+        item.setAvailable(true);
+        return itemRepository.save(item);
+    }
+
+    private static List<Integer> ids(final List<Item> items) {
+        return items.stream().map(Item::getId).toList();
+    }
+}
@@ -16,13 +16,18 @@ import ru.practicum.shareit.booking.dto.BookingRequest;
 import ru.practicum.shareit.booking.service.BookingService;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemResponce;
 import ru.practicum.shareit.item.service.ItemService;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.service.UserService;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
@@ -112,14 +117,42 @@ public class ItemServiceSBTest {
         assertEquals(1, itemService.getItemsByOwnerId(2).size());
     }
 
+    @Test
+    @Order(5)
+    @DirtiesContext
+    @DisplayName("ItemService_getItemsByOwnerIdWithBookingsAndComments")
+    void testGetItemsByOwnerIdWithBookingsAndComments() {
+
+        final CommentDto commentDto = new CommentDto();
+        commentDto.setText("Bla-bla-bla");
+        itemService.saveComment(2, 1, commentDto);
+
+        final List<ItemResponce> items = itemService.getItemsByOwnerId(1);
+
+        assertEquals(2, items.size());
+        assertNotNull(items.get(0).getLastBooking());
+        assertNull(items.get(0).getNextBooking());
+        assertEquals(1, items.get(0).getComments().size());
+        assertNull(items.get(1).getLastBooking());
+        assertTrue(items.get(1).getComments().isEmpty());
+    }
+
     @Test
     @Order(3)
     @DirtiesContext
     @DisplayName("ItemService_search")
     void testSearch() {
 
-        assertEquals(1, itemService.search("Table").size());
-        assertEquals(2, itemService.search("S").size());
+        assertEquals(1, itemService.search("Table", 0, 10).size());
+        assertEquals(2, itemService.search("S", 0, 10).size());
+        assertEquals(1, itemService.search("S", 1, 10).size());
+
+        final ItemDto itemDto = new ItemDto();
+        itemDto.setName("Desk");
+        itemService.update(1, 2, itemDto);
+
+        assertEquals(0, itemService.search("Table", 0, 10).size());
+        assertEquals(1, itemService.search("desk", 0, 10).size());
     }
 
     @Test
@@ -8,20 +8,32 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.ItemBookingSummary;
 import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.service.ItemBookingSummaries;
+import ru.practicum.shareit.cache.LookupCache;
 import ru.practicum.shareit.exception.ForbiddenException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.exception.ValidationException;
+import ru.practicum.shareit.guard.EntityGuard;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.CommentMapper;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemMapper;
+import ru.practicum.shareit.item.dto.ItemResponce;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.CommentRepository;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemChangedEvent;
+import ru.practicum.shareit.item.service.ItemDeletedEvent;
+import ru.practicum.shareit.item.service.ItemSearchEngine;
 import ru.practicum.shareit.item.service.ItemService;
 import ru.practicum.shareit.item.service.ItemServiceImpl;
 import ru.practicum.shareit.request.model.ItemRequest;
@@ -30,7 +42,9 @@ import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -38,6 +52,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -62,9 +77,24 @@ public class ItemServiceTest {
     @Mock
     BookingRepository bookingRepository;
 
+    @Mock
+    ItemBookingSummaries itemBookingSummaries;
+
     @Mock
     ItemRequestRepository itemRequestRepository;
 
+    @Mock
+    ItemSearchEngine itemSearchEngine;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    LookupCache lookupCache;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
     User user1;
 
     ItemDto itemDto1;
@@ -85,7 +115,9 @@ public class ItemServiceTest {
         CommentMapper commentMapper = new CommentMapper();
 
         itemService = new ItemServiceImpl(itemRepository, itemMapper, userRepository, commentRepository,
-                commentMapper, bookingRepository, itemRequestRepository);
+                commentMapper, bookingRepository, itemBookingSummaries, itemRequestRepository, itemSearchEngine, eventPublisher,
+                new EntityGuard(lookupCache, bookingRepository, itemRequestRepository),
+                new TransactionTemplate(transactionManager));
 
 
         user1 = new User();
@@ -147,19 +179,22 @@ public class ItemServiceTest {
     @DisplayName("ItemService_createWithOutRequest")
     void testCreateWithOutRequest() {
 
-        when(userRepository.findById(1)).thenReturn(Optional.of(user1));
+        when(lookupCache.userExists(1)).thenReturn(true);
+        when(userRepository.getReferenceById(1)).thenReturn(user1);
         when(itemRepository.save(itemMapper.toItem(user1, itemDto1))).thenReturn(item1);
 
         final ItemDto itemDto = itemService.save(1, itemDto1);
 
         assertEquals("Vase", itemDto.getName());
+        verify(eventPublisher).publishEvent(new ItemChangedEvent(1, user1.getId(), "Vase", "2 litres", true));
     }
 
     @Test
     @DisplayName("ItemService_createWithRequest")
     void testCreateWithRequest() {
 
-        when(userRepository.findById(1)).thenReturn(Optional.of(user1));
+        when(lookupCache.userExists(1)).thenReturn(true);
+        when(userRepository.getReferenceById(1)).thenReturn(user1);
         when(itemRepository.save(itemMapper.toItem(user1, itemDto1))).thenReturn(item2);
 
         final ItemDto itemDto = itemService.save(1, itemDto1);
@@ -178,8 +213,9 @@ public class ItemServiceTest {
         itemDto2.setAvailable(true);
         itemDto2.setRequestId(1);
 
-        when(userRepository.findById(1)).thenReturn(Optional.of(user1));
-        when(itemRepository.save(itemMapper.toItem(user1, itemDto2))).thenReturn(item2);
+        when(lookupCache.userExists(1)).thenReturn(true);
+        when(userRepository.getReferenceById(1)).thenReturn(user1);
+        when(itemRequestRepository.existsById(1)).thenReturn(false);
 
         assertThrows(
                 NotFoundException.class,
@@ -201,12 +237,13 @@ public class ItemServiceTest {
     @DisplayName("ItemService_updateNotEqualsOwner")
     void testUpdateNotEqualsOwner() {
 
-        when(itemRepository.findById(1)).thenReturn(Optional.of(item1));
+        when(lookupCache.itemOwnerId(1)).thenReturn(Optional.of(1));
 
         assertThrows(
                 ForbiddenException.class,
                 () -> itemService.update(2, 1, itemDto1)
         );
+        verify(itemRepository, never()).findById(1);
     }
 
     @Test
@@ -222,6 +259,7 @@ public class ItemServiceTest {
         final ItemDto itemDto11 = new ItemDto();
         itemDto11.setName("Glass vase");
 
+        when(lookupCache.itemOwnerId(1)).thenReturn(Optional.of(1));
         when(itemRepository.findById(1)).thenReturn(Optional.of(item1));
         when(itemRepository.save(item11)).thenReturn(item11);
 
@@ -243,6 +281,7 @@ public class ItemServiceTest {
         final ItemDto itemDto12 = new ItemDto();
         itemDto12.setDescription("3 litres");
 
+        when(lookupCache.itemOwnerId(1)).thenReturn(Optional.of(1));
         when(itemRepository.findById(1)).thenReturn(Optional.of(item1));
         when(itemRepository.save(item12)).thenReturn(item12);
 
@@ -264,6 +303,7 @@ public class ItemServiceTest {
         final ItemDto itemDto13 = new ItemDto();
         itemDto13.setAvailable(false);
 
+        when(lookupCache.itemOwnerId(1)).thenReturn(Optional.of(1));
         when(itemRepository.findById(1)).thenReturn(Optional.of(item1));
         when(itemRepository.save(item13)).thenReturn(item13);
 
@@ -291,10 +331,7 @@ public class ItemServiceTest {
 
         itemService.findById(5, 1);
 
-        verify(bookingRepository, never()).findTopByItemIdAndEndBeforeAndStatusInOrderByEndDesc(1,
-                LocalDateTime.now(), List.of(Status.APPROVED));
-        verify(bookingRepository, never()).findTopByItemIdAndStartAfterAndStatusInOrderByStartAsc(1,
-                LocalDateTime.now(), List.of(Status.APPROVED));
+        verify(itemBookingSummaries, never()).find(anyInt(), any());
     }
 
 
@@ -317,17 +354,46 @@ public class ItemServiceTest {
         itemService.delete(1);
 
         verify(itemRepository).delete(any(Item.class));
+        verify(eventPublisher).publishEvent(new ItemDeletedEvent(1, 1, List.of()));
     }
 
     @Test
     @DisplayName("ItemService_getItemsByOwnerId")
     void testGetItemsByOwnerId() {
 
+        final LocalDateTime lastBooking = LocalDateTime.now().minusDays(1);
+        final ItemBookingSummary summary = new ItemBookingSummary(1, lastBooking, null, null);
+
         when(itemRepository.findAllByOwnerId(1)).thenReturn(List.of(item1));
+        when(commentRepository.findAllByItemIdIn(List.of(1))).thenReturn(List.of(comment));
+        when(itemBookingSummaries.findAll(eq(List.of(1)), any(LocalDateTime.class)))
+                .thenReturn(Map.of(1, summary));
 
-        final List<ItemDto> items = itemService.getItemsByOwnerId(1);
+        final List<ItemResponce> items = itemService.getItemsByOwnerId(1);
 
         assertEquals(1, items.size());
+        assertEquals(lastBooking, items.get(0).getLastBooking());
+        assertEquals(1, items.get(0).getComments().size());
+    }
+
+    @Test
+    @DisplayName("ItemService_streamItemsByOwnerId")
+    void testStreamItemsByOwnerId() {
+
+        final ItemBookingSummary summary = new ItemBookingSummary(1, null, null, null);
+
+        when(itemRepository.findAllByOwnerIdAndIdGreaterThanOrderById(1, 0, Limit.of(500)))
+                .thenReturn(List.of(item1));
+        when(commentRepository.findAllByItemIdIn(List.of(1))).thenReturn(List.of(comment));
+        when(itemBookingSummaries.findAll(eq(List.of(1)), any(LocalDateTime.class)))
+                .thenReturn(Map.of(1, summary));
+
+        final List<ItemResponce> items = new ArrayList<>();
+        itemService.streamItemsByOwnerId(1, items::add);
+
+        assertEquals(1, items.size());
+        assertEquals(1, items.get(0).getComments().size());
+        verify(transactionManager).commit(any());
     }
 
     @Test
@@ -336,16 +402,17 @@ public class ItemServiceTest {
 
         when(itemRepository.findAllByOwnerId(5)).thenReturn(List.of());
 
-        final List<ItemDto> itemDtos = itemService.getItemsByOwnerId(5);
+        final List<ItemResponce> items = itemService.getItemsByOwnerId(5);
 
-        assertTrue(itemDtos.isEmpty());
+        assertTrue(items.isEmpty());
+        verify(commentRepository, never()).findAllByItemIdIn(any());
     }
 
     @Test
     @DisplayName("ItemService_searchTextEmpty")
     void testSearchTextEmpty() {
 
-        final List<ItemDto> itemDtos = itemService.search("");
+        final List<ItemDto> itemDtos = itemService.search("", 0, 10);
 
         assertTrue(itemDtos.isEmpty());
     }
@@ -354,13 +421,24 @@ public class ItemServiceTest {
     @DisplayName("ItemService_searchText")
     void testSearchText() {
 
-        when(itemRepository.search("as")).thenReturn(List.of(item1));
+        when(itemSearchEngine.search("as", 0, 10)).thenReturn(List.of(item1));
 
-        final List<ItemDto> itemDtos = itemService.search("as");
+        final List<ItemDto> itemDtos = itemService.search("As ", 0, 10);
 
         assertEquals("Vase", itemDtos.getFirst().getName());
     }
 
+    @Test
+    @DisplayName("ItemService_searchInvalidPage")
+    void testSearchInvalidPage() {
+
+        assertThrows(
+                ValidationException.class,
+                () -> itemService.search("as", -1, 10)
+        );
+        verify(itemSearchEngine, never()).search(any(), anyInt(), anyInt());
+    }
+
     @Test
     @DisplayName("ItemService_saveCommentNotUser")
     void testSaveCommentNotUser() {
@@ -413,8 +491,8 @@ public class ItemServiceTest {
 
         when(userRepository.findById(1)).thenReturn(Optional.of(user1));
         when(itemRepository.findById(1)).thenReturn(Optional.of(item1));
-        when(bookingRepository.findAllByBookerIdAndItemIdAndStatusEqualsAndEndIsBefore(anyInt(),
-                anyInt(), any(Status.class), any(LocalDateTime.class))).thenReturn(List.of(booking));
+        when(bookingRepository.existsByBookerIdAndItemIdAndStatusAndEndBefore(anyInt(),
+                anyInt(), any(Status.class), any(LocalDateTime.class))).thenReturn(true);
         when(commentRepository.save(any(Comment.class))).thenReturn(comment);
 
         final CommentDto commentDto = itemService.saveComment(1, 1, commentDto1);
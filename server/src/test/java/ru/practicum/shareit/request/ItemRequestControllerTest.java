@@ -99,14 +99,16 @@ class ItemRequestControllerTest {
 
         final List<ItemRequestResponceDto> responceDtos = List.of(new ItemRequestResponceDto());
 
-        when(itemRequestService.getAll(anyInt())).thenReturn(responceDtos);
+        when(itemRequestService.getAll(anyInt(), anyInt(), any())).thenReturn(responceDtos);
 
         mockMvc.perform(get("/requests/all")
-                        .header(HEADER, 1))
+                        .header(HEADER, 1)
+                        .param("size", "20")
+                        .param("after", "3"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.length()").value(1));
 
-        verify(itemRequestService, times(1)).getAll(anyInt());
+        verify(itemRequestService, times(1)).getAll(1, 20, 3);
     }
 
     @Test
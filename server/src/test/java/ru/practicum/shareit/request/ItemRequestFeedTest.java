@@ -0,0 +1,155 @@
+package ru.practicum.shareit.request;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.TestFixtures;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"shareit.request-feed.max-subscribers=" + ItemRequestFeedTest.MAX_SUBSCRIBERS,
+                "shareit.request-feed.heartbeat=PT1H",
+                "spring.datasource.hikari.maximum-pool-size=" + ItemRequestFeedTest.POOL_SIZE,
+                "spring.datasource.hikari.connection-timeout=1000"})
+@Import(TestFixtures.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Timeout(30)
+public class ItemRequestFeedTest {
+
+    static final int POOL_SIZE = 2;
+
+    static final int MAX_SUBSCRIBERS = POOL_SIZE + 2;
+
+    static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    final HttpClient client = HttpClient.newBuilder().connectTimeout(TIMEOUT).build();
+
+    @Autowired
+    TestFixtures fixtures;
+
+    @LocalServerPort
+    int port;
+
+    @Test
+    @DirtiesContext
+    @DisplayName("ItemRequestFeed_pushesOtherUsersRequests")
+    void testPushesOtherUsersRequests() throws Exception {
+
+        final Integer requestorId = fixtures.saveUser("Katia", "gromgrommolnia@mail.ru");
+        final Integer ownerId = fixtures.saveUser("Nika", "moemore@mail.ru");
+
+        final BlockingQueue<String> requestorLines = new LinkedBlockingQueue<>();
+        final BlockingQueue<String> ownerLines = new LinkedBlockingQueue<>();
+        subscribe(requestorId, requestorLines);
+        subscribe(ownerId, ownerLines);
+
+        final Integer requestId = fixtures.saveItemRequest(requestorId, "coffee machine");
+
+        final List<String> event = readEvent(ownerLines);
+        assertTrue(event.contains("id:" + requestId), event::toString);
+        assertTrue(event.contains("event:request"), event::toString);
+        assertTrue(event.stream().anyMatch(line -> line.startsWith("data:")
+                && line.contains("\"description\":\"coffee machine\"")), event::toString);
+        assertTrue(readEvent(requestorLines, Duration.ofMillis(500)).isEmpty());
+
+        final Integer answerId = fixtures.saveItemRequest(ownerId, "coffee grinder");
+
+        assertTrue(readEvent(requestorLines).contains("id:" + answerId));
+    }
+
+    @Test
+    @DirtiesContext
+    @DisplayName("ItemRequestFeed_subscribersDoNotHoldConnections")
+    void testSubscribersDoNotHoldConnections() throws Exception {
+
+        final Integer requestorId = fixtures.saveUser("Katia", "gromgrommolnia@mail.ru");
+        final Integer ownerId = fixtures.saveUser("Nika", "moemore@mail.ru");
+
+        final List<BlockingQueue<String>> feeds = new ArrayList<>();
+        for (int i = 0; i < MAX_SUBSCRIBERS; i++) {
+            final BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+            subscribe(ownerId, lines);
+            feeds.add(lines);
+        }
+
+        final Integer requestId = fixtures.saveItemRequest(requestorId, "coffee machine");
+
+        for (final BlockingQueue<String> lines : feeds) {
+            assertTrue(readEvent(lines).contains("id:" + requestId));
+        }
+    }
+
+    @Test
+    @DirtiesContext
+    @DisplayName("ItemRequestFeed_limitsSubscribers")
+    void testLimitsSubscribers() throws Exception {
+
+        final Integer userId = fixtures.saveUser("Katia", "gromgrommolnia@mail.ru");
+        for (int i = 0; i < MAX_SUBSCRIBERS; i++) {
+            subscribe(userId, new LinkedBlockingQueue<>());
+        }
+
+        assertEquals(503, client.send(request(userId), HttpResponse.BodyHandlers.ofString()).statusCode());
+        assertEquals(404, client.send(request(userId + 100), HttpResponse.BodyHandlers.ofString()).statusCode());
+    }
+
+    private void subscribe(final Integer userId, final BlockingQueue<String> lines) throws Exception {
+        final HttpResponse<Stream<String>> response = client.send(request(userId),
+                HttpResponse.BodyHandlers.ofLines());
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Type").orElseThrow().startsWith("text/event-stream"));
+        Thread.ofVirtual().start(() -> response.body().forEach(lines::add));
+    }
+
+    private HttpRequest request(final Integer userId) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/requests/stream"))
+                .header("X-Sharer-User-Id", String.valueOf(userId))
+                .timeout(TIMEOUT)
+                .GET()
+                .build();
+    }
+
+    private List<String> readEvent(final BlockingQueue<String> lines) throws InterruptedException {
+        return readEvent(lines, TIMEOUT);
+    }
+
+    private List<String> readEvent(final BlockingQueue<String> lines, final Duration timeout)
+            throws InterruptedException {
+        final List<String> event = new ArrayList<>();
+        String line;
+        while ((line = lines.poll(timeout.toMillis(), TimeUnit.MILLISECONDS)) != null) {
+            if (line.startsWith(":")) {
+                continue;
+            }
+            if (line.isEmpty()) {
+                if (!event.isEmpty()) {
+                    return event;
+                }
+                continue;
+            }
+            event.add(line);
+        }
+        return event;
+    }
+}
@@ -0,0 +1,186 @@
+package ru.practicum.shareit.request;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.item.dto.ItemSearchDocument;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemChangedEvent;
+import ru.practicum.shareit.item.service.ItemDeletedEvent;
+import ru.practicum.shareit.request.dto.ItemRequestResponceDto;
+import ru.practicum.shareit.request.dto.ItemSuggestionDto;
+import ru.practicum.shareit.request.service.ItemRequestCreatedEvent;
+import ru.practicum.shareit.request.service.ItemRequestMatcher;
+import ru.practicum.shareit.request.service.ItemRequestMatchingProperties;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ItemRequestMatcherTest {
+
+    @Mock
+    ItemRepository itemRepository;
+
+    List<ItemSearchDocument> documents;
+
+    ItemRequestMatcher itemRequestMatcher;
+
+    @BeforeEach
+    public void setUp() {
+
+        documents = new ArrayList<>(List.of(
+                document(1, 10, "Drill", "cordless drill with two batteries", true),
+                document(2, 10, "Hammer", "steel hammer", true),
+                document(3, 20, "Drill bits", "set of bits for wood", true),
+                document(4, 20, "Impact drill", "heavy drill", false),
+                document(5, 30, "Ladder", "aluminium ladder, three metres", true)
+        ));
+
+        when(itemRepository.streamSearchDocuments()).thenAnswer(invocation -> documents.stream());
+        lenient().when(itemRepository.findSearchDocumentsByIdIn(anyCollection())).thenAnswer(invocation -> {
+            final Collection<Integer> ids = invocation.getArgument(0);
+            return documents.stream().filter(document -> ids.contains(document.getId())).toList();
+        });
+
+        itemRequestMatcher = matcher(1);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        itemRequestMatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("ItemRequestMatcher_suggestTopK")
+    void testSuggestTopK() {
+
+        final List<ItemSuggestionDto> result = itemRequestMatcher.suggest(1, "Need a drill for wood", 30);
+
+        assertEquals(List.of(3, 1), result.stream().map(ItemSuggestionDto::getItemId).toList());
+        assertTrue(result.get(0).getScore() >= result.get(1).getScore());
+        assertEquals(20, result.get(0).getOwnerId());
+    }
+
+    @Test
+    @DisplayName("ItemRequestMatcher_suggestSkipsOwnAndUnavailable")
+    void testSuggestSkipsOwnAndUnavailable() {
+
+        final List<ItemSuggestionDto> result = itemRequestMatcher.suggest(1, "drill", 20);
+
+        assertEquals(List.of(1), result.stream().map(ItemSuggestionDto::getItemId).toList());
+    }
+
+    @Test
+    @DisplayName("ItemRequestMatcher_suggestNoMatches")
+    void testSuggestNoMatches() {
+
+        assertTrue(itemRequestMatcher.suggest(1, "umbrella", 30).isEmpty());
+        assertTrue(itemRequestMatcher.suggest(2, "", 30).isEmpty());
+    }
+
+    @Test
+    @DisplayName("ItemRequestMatcher_suggestSkipsCommonTerms")
+    void testSuggestSkipsCommonTerms() {
+
+        final ItemRequestMatcher matcher = matcher(0.5);
+        try {
+            assertTrue(matcher.suggest(1, "drill", 30).isEmpty());
+            assertEquals(List.of(3), matcher.suggest(2, "drill for wood", 30).stream()
+                    .map(ItemSuggestionDto::getItemId).toList());
+        } finally {
+            matcher.shutdown();
+        }
+        verify(itemRepository).findSearchDocumentsByIdIn(List.of(3));
+    }
+
+    @Test
+    @DisplayName("ItemRequestMatcher_suggestFollowsItemChanges")
+    void testSuggestFollowsItemChanges() {
+
+        documents.add(document(6, 10, "Stepladder", "ladder for the kitchen", true));
+        itemRequestMatcher.onItemChanged(new ItemChangedEvent(6, 10, "Stepladder", "ladder for the kitchen", true));
+        assertEquals(List.of(6, 5), itemRequestMatcher.suggest(1, "kitchen ladder", 20).stream()
+                .map(ItemSuggestionDto::getItemId).toList());
+
+        itemRequestMatcher.onItemDeleted(new ItemDeletedEvent(6, 10, List.of()));
+
+        assertEquals(List.of(5), itemRequestMatcher.suggest(1, "kitchen ladder", 20).stream()
+                .map(ItemSuggestionDto::getItemId).toList());
+    }
+
+    @Test
+    @DisplayName("ItemRequestMatcher_matchOnRequestCreated")
+    void testMatchOnRequestCreated() {
+
+        final ItemRequestResponceDto request = new ItemRequestResponceDto();
+        request.setId(1);
+        request.setDescription("steel hammer");
+        final UserDto requestor = new UserDto();
+        requestor.setId(30);
+        request.setRequestor(requestor);
+        itemRequestMatcher.onItemRequestCreated(new ItemRequestCreatedEvent(request));
+        itemRequestMatcher.shutdown();
+
+        itemRequestMatcher.onItemChanged(new ItemChangedEvent(7, 10, "Hammer", "rubber hammer", true));
+
+        assertEquals(List.of(2), itemRequestMatcher.suggest(1, "steel hammer", 30).stream()
+                .map(ItemSuggestionDto::getItemId).toList());
+    }
+
+    private ItemRequestMatcher matcher(final double maxDocumentFrequency) {
+        final ItemRequestMatcher matcher = new ItemRequestMatcher(itemRepository,
+                new ItemRequestMatchingProperties(2, maxDocumentFrequency, 1, 10, 100, Duration.ofMinutes(10)),
+                new SimpleMeterRegistry());
+        matcher.rebuild();
+        return matcher;
+    }
+
+    private static ItemSearchDocument document(final Integer id, final Integer ownerId, final String name,
+                                               final String description, final Boolean available) {
+        return new ItemSearchDocument() {
+            @Override
+            public Integer getId() {
+                return id;
+            }
+
+            @Override
+            public Integer getOwnerId() {
+                return ownerId;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public String getDescription() {
+                return description;
+            }
+
+            @Override
+            public Boolean getAvailable() {
+                return available;
+            }
+        };
+    }
+}
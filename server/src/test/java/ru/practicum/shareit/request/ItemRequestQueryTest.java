@@ -0,0 +1,112 @@
+package ru.practicum.shareit.request;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.TestFixtures;
+import ru.practicum.shareit.item.dto.ItemDtoResponceForIR;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.dto.ItemRequestResponceDto;
+import ru.practicum.shareit.request.service.ItemRequestService;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(TestFixtures.class)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ItemRequestQueryTest {
+
+    static final int REQUESTS = 100;
+
+    ItemRequestService itemRequestService;
+
+    EntityManagerFactory entityManagerFactory;
+
+    TestFixtures fixtures;
+
+    @Test
+    @DirtiesContext
+    @DisplayName("ItemRequestQuery_getAllByUserInTwoStatements")
+    void testGetAllByUserInTwoStatements() {
+
+        final Integer requestorId = fixtures.saveUser("Katia", "gromgrommolnia@mail.ru");
+        final Integer ownerId = fixtures.saveUser("Nika", "moemore@mail.ru");
+        final List<Integer> requestIds = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            final ItemRequestDto itemRequestDto = new ItemRequestDto();
+            itemRequestDto.setDescription("coffee machine " + i);
+            final Integer requestId = itemRequestService.saveItemRequest(requestorId, itemRequestDto).getId();
+            requestIds.add(requestId);
+            if (i % 2 == 0) {
+                fixtures.saveItem(ownerId, requestId);
+                fixtures.saveItem(ownerId, requestId);
+            }
+        }
+        fixtures.saveItem(ownerId);
+
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        final List<ItemRequestResponceDto> itemRequests = itemRequestService.getAllByUser(requestorId);
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(REQUESTS, itemRequests.size());
+        for (final ItemRequestResponceDto itemRequest : itemRequests) {
+            final int index = requestIds.indexOf(itemRequest.getId());
+            assertEquals(index % 2 == 0 ? 2 : 0, itemRequest.getItems().size());
+            assertTrue(itemRequest.getItems().stream().map(ItemDtoResponceForIR::getOwnerId)
+                    .allMatch(ownerId::equals));
+        }
+
+        statistics.clear();
+        final ItemRequestResponceDto itemRequest = itemRequestService.getById(requestIds.getFirst());
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(2, itemRequest.getItems().size());
+        assertEquals("Katia", itemRequest.getRequestor().getName());
+    }
+
+    @Test
+    @DirtiesContext
+    @DisplayName("ItemRequestQuery_getAllPagesInTwoStatements")
+    void testGetAllPagesInTwoStatements() {
+
+        final Integer requestorId = fixtures.saveUser("Katia", "gromgrommolnia@mail.ru");
+        final Integer ownerId = fixtures.saveUser("Nika", "moemore@mail.ru");
+        for (int i = 0; i < REQUESTS; i++) {
+            final ItemRequestDto itemRequestDto = new ItemRequestDto();
+            itemRequestDto.setDescription("coffee machine " + i);
+            fixtures.saveItem(ownerId, itemRequestService.saveItemRequest(requestorId, itemRequestDto).getId());
+        }
+
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        final List<Integer> seen = new ArrayList<>();
+        Integer after = null;
+        do {
+            statistics.clear();
+            final List<ItemRequestResponceDto> page = itemRequestService.getAll(ownerId, 30, after);
+            assertTrue(statistics.getPrepareStatementCount() <= 3,
+                    "statements: " + statistics.getPrepareStatementCount());
+            assertTrue(page.stream().allMatch(itemRequest -> itemRequest.getItems().size() == 1));
+            page.forEach(itemRequest -> seen.add(itemRequest.getId()));
+            after = page.isEmpty() ? null : page.getLast().getId();
+        } while (after != null);
+
+        assertEquals(REQUESTS, seen.size());
+        assertEquals(REQUESTS, seen.stream().distinct().count());
+        assertEquals(0, itemRequestService.getAll(requestorId, 30, null).size());
+    }
+}
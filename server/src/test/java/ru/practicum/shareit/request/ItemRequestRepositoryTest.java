@@ -6,6 +6,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
 import org.springframework.test.annotation.DirtiesContext;
 import ru.practicum.shareit.request.model.ItemRequest;
@@ -95,7 +97,8 @@ public class ItemRequestRepositoryTest {
         itemRequest2.setCreated(LocalDateTime.now());
         itemRequestRepository.save(itemRequest2);
 
-        final List<ItemRequest> itemRequestList = itemRequestRepository.findAllByRequestorIdNot(1, sort);
+        final List<ItemRequest> itemRequestList = itemRequestRepository.findAllByRequestorIdNot(1,
+                ScrollPosition.offset(), sort, Limit.of(10)).getContent();
 
         assertEquals(2, itemRequestList.size());
     }
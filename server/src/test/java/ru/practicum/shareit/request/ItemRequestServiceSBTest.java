@@ -105,9 +105,17 @@ public class ItemRequestServiceSBTest {
         itemRequestDto.setDescription("Bla-bla-bla");
         itemRequestService.saveItemRequest(2, itemRequestDto);
 
-        final List<ItemRequestResponceDto> i = itemRequestService.getAll(1);
+        final List<ItemRequestResponceDto> i = itemRequestService.getAll(1, 10, null);
 
         assertEquals(2, i.size());
+        assertEquals(1, i.getLast().getItems().size());
+
+        final List<ItemRequestResponceDto> first = itemRequestService.getAll(1, 1, null);
+        final List<ItemRequestResponceDto> next = itemRequestService.getAll(1, 1, first.getFirst().getId());
+
+        assertEquals(i.getFirst().getId(), first.getFirst().getId());
+        assertEquals(List.of(i.getLast().getId()), next.stream().map(ItemRequestResponceDto::getId).toList());
+        assertEquals(0, itemRequestService.getAll(1, 1, next.getFirst().getId()).size());
     }
 
     @Test
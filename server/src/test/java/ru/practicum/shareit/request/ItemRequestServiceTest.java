@@ -8,8 +8,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.exception.ValidationException;
+import ru.practicum.shareit.item.dto.ItemAnswer;
 import ru.practicum.shareit.item.dto.ItemDtoResponceForIR;
 import ru.practicum.shareit.item.dto.ItemMapper;
 import ru.practicum.shareit.item.model.Item;
@@ -17,8 +23,12 @@ import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestMapper;
 import ru.practicum.shareit.request.dto.ItemRequestResponceDto;
+import ru.practicum.shareit.request.dto.ItemSuggestionDto;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.request.service.ItemRequestCreatedEvent;
+import ru.practicum.shareit.request.service.ItemRequestFeed;
+import ru.practicum.shareit.request.service.ItemRequestMatcher;
 import ru.practicum.shareit.request.service.ItemRequestService;
 import ru.practicum.shareit.request.service.ItemRequestServiceImpl;
 import ru.practicum.shareit.user.dto.UserMapper;
@@ -26,6 +36,7 @@ import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,6 +44,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -53,6 +67,21 @@ public class ItemRequestServiceTest {
     @Mock
     ItemMapper itemMapper;
 
+    @Mock
+    ItemRequestFeed itemRequestFeed;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    ItemRequestMatcher itemRequestMatcher;
+
+    @Mock
+    ItemAnswer itemAnswer1;
+
+    @Mock
+    ItemAnswer itemAnswer2;
+
     final Sort sort = Sort.by(Sort.Direction.DESC, "created");
 
     User user1;
@@ -75,7 +104,7 @@ public class ItemRequestServiceTest {
         UserMapper userMapper = new UserMapper();
 
         itemRequestService = new ItemRequestServiceImpl(itemRequestRepository, itemRequestMapper, userRepository,
-                userMapper, itemRepository, itemMapper);
+                userMapper, itemRepository, itemMapper, itemRequestFeed, itemRequestMatcher, eventPublisher);
 
         itemRequestDto1 = new ItemRequestDto();
         itemRequestDto1.setDescription("La-la-la");
@@ -140,6 +169,18 @@ public class ItemRequestServiceTest {
 
         assertEquals("La-la-la", itemRequestResponceDto.getDescription());
         assertEquals("Mia", itemRequestResponceDto.getRequestor().getName());
+        verify(eventPublisher).publishEvent(new ItemRequestCreatedEvent(itemRequestResponceDto));
+    }
+
+    @Test
+    @DisplayName("ItemRequestService_subscribeNotUser")
+    void testSubscribeNotUser() {
+
+        assertThrows(
+                NotFoundException.class,
+                () -> itemRequestService.subscribe(1)
+        );
+        verify(itemRequestFeed, never()).subscribe(anyInt());
     }
 
     @Test
@@ -148,26 +189,66 @@ public class ItemRequestServiceTest {
 
         when(itemRequestRepository.findAllByRequestorId(1, sort))
                 .thenReturn(List.of(itemRequest1, itemRequest2));
-        when(itemRepository.findAllByRequest(itemRequest1)).thenReturn(List.of(item1));
-        when(itemRepository.findAllByRequest(itemRequest2)).thenReturn(List.of(item2));
+        when(itemRepository.findAnswersByRequestorId(1)).thenReturn(List.of(itemAnswer1, itemAnswer2));
+        when(itemAnswer1.getRequestId()).thenReturn(1);
+        when(itemAnswer2.getRequestId()).thenReturn(2);
 
         final List<ItemRequestResponceDto> itemRequestResponceDtoList = itemRequestService.getAllByUser(1);
 
         assertEquals(2, itemRequestResponceDtoList.size());
         assertEquals("Mia", itemRequestResponceDtoList.getFirst().getRequestor().getName());
+        assertEquals(1, itemRequestResponceDtoList.getFirst().getItems().size());
+        assertEquals(1, itemRequestResponceDtoList.getLast().getItems().size());
     }
 
     @Test
     @DisplayName("ItemRequestService_getAll")
     void testGetAll() {
 
-        when(itemRequestRepository.findAllByRequestorIdNot(2, sort))
-                .thenReturn(List.of(itemRequest1, itemRequest2));
+        when(itemRequestRepository.findAllByRequestorIdNot(eq(2), any(ScrollPosition.class), any(Sort.class),
+                eq(Limit.of(10))))
+                .thenReturn(Window.from(List.of(itemRequest1, itemRequest2), ScrollPosition::offset));
+        when(itemRepository.findAnswersByRequestIdIn(List.of(1, 2))).thenReturn(List.of(itemAnswer2));
+        when(itemAnswer2.getRequestId()).thenReturn(2);
 
-        final List<ItemRequestResponceDto> itemRequestResponceDtoList = itemRequestService.getAll(2);
+        final List<ItemRequestResponceDto> itemRequestResponceDtoList = itemRequestService.getAll(2, 10, null);
 
         assertEquals(2, itemRequestResponceDtoList.size());
         assertEquals("Mia", itemRequestResponceDtoList.getFirst().getRequestor().getName());
+        assertEquals(0, itemRequestResponceDtoList.getFirst().getItems().size());
+        assertEquals(1, itemRequestResponceDtoList.getLast().getItems().size());
+    }
+
+    @Test
+    @DisplayName("ItemRequestService_getAllCapsItems")
+    void testGetAllCapsItems() {
+
+        when(itemRequestRepository.findAllByRequestorIdNot(eq(2), any(ScrollPosition.class), any(Sort.class),
+                eq(Limit.of(10))))
+                .thenReturn(Window.from(List.of(itemRequest1, itemRequest2), ScrollPosition::offset));
+        when(itemRepository.findAnswersByRequestIdIn(List.of(1, 2)))
+                .thenReturn(Collections.nCopies(1001, itemAnswer2));
+        when(itemAnswer2.getRequestId()).thenReturn(1);
+
+        final List<ItemRequestResponceDto> itemRequestResponceDtoList = itemRequestService.getAll(2, 10, null);
+
+        assertEquals(1, itemRequestResponceDtoList.size());
+        assertEquals(1, itemRequestResponceDtoList.getFirst().getId());
+        assertEquals(1000, itemRequestResponceDtoList.getFirst().getItems().size());
+    }
+
+    @Test
+    @DisplayName("ItemRequestService_getAllWrongSize")
+    void testGetAllWrongSize() {
+
+        assertThrows(
+                ValidationException.class,
+                () -> itemRequestService.getAll(2, 101, null)
+        );
+        assertThrows(
+                NotFoundException.class,
+                () -> itemRequestService.getAll(2, 10, 5)
+        );
     }
 
     @Test
@@ -185,7 +266,7 @@ public class ItemRequestServiceTest {
     void testGetById() {
 
         when(itemRequestRepository.findById(1)).thenReturn(Optional.of(itemRequest1));
-        when(itemRepository.findAllByRequest(itemRequest1)).thenReturn(List.of(item1));
+        when(itemRepository.findAnswersByRequestId(1)).thenReturn(List.of(itemAnswer1));
 
         final ItemRequestResponceDto itemRequestResponceDto = itemRequestService.getById(1);
 
@@ -193,4 +274,26 @@ public class ItemRequestServiceTest {
         assertEquals("Mia", itemRequestResponceDto.getRequestor().getName());
         assertEquals(1, itemRequestResponceDto.getItems().size());
     }
+
+    @Test
+    @DisplayName("ItemRequestService_getSuggestionsNotRequest")
+    void testGetSuggestionsNotRequest() {
+
+        assertThrows(
+                NotFoundException.class,
+                () -> itemRequestService.getSuggestions(1)
+        );
+        verify(itemRequestMatcher, never()).suggest(anyInt(), any(), any());
+    }
+
+    @Test
+    @DisplayName("ItemRequestService_getSuggestions")
+    void testGetSuggestions() {
+
+        final ItemSuggestionDto suggestion = new ItemSuggestionDto(7, "Table", "oak", 2, 1.5);
+        when(itemRequestRepository.findById(1)).thenReturn(Optional.of(itemRequest1));
+        when(itemRequestMatcher.suggest(1, "La-la-la", 1)).thenReturn(List.of(suggestion));
+
+        assertEquals(List.of(suggestion), itemRequestService.getSuggestions(1));
+    }
 }
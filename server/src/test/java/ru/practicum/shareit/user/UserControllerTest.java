@@ -14,22 +14,29 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import ru.practicum.shareit.ShareItServer;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.service.UserService;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest(classes = ShareItServer.class)
@@ -116,6 +123,36 @@ class UserControllerTest {
         verify(userService, times(1)).findAll();
     }
 
+    @Test
+    @Order(4)
+    @DirtiesContext
+    @DisplayName("UserController_streamAll")
+    void testStreamAll() throws Exception {
+
+        doAnswer(invocation -> {
+            final Consumer<UserDto> consumer = invocation.getArgument(0);
+            for (int id = 1; id <= 2; id++) {
+                final UserDto userDto = new UserDto();
+                userDto.setId(id);
+                userDto.setName("Mia");
+                consumer.accept(userDto);
+            }
+            return null;
+        }).when(userService).streamAll(any());
+
+        final MvcResult result = mockMvc.perform(get("/users").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"id\":1,\"name\":\"Mia\",\"email\":null}\n"
+                        + "{\"id\":2,\"name\":\"Mia\",\"email\":null}\n"));
+
+        verify(userService, never()).findAll();
+    }
+
     @Test
     @Order(4)
     @DirtiesContext
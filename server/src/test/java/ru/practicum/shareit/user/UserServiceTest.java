@@ -6,23 +6,33 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.dto.UserMapper;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 import ru.practicum.shareit.user.service.UserService;
+import ru.practicum.shareit.user.service.UserDeletedEvent;
 import ru.practicum.shareit.user.service.UserServiceImpl;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -37,6 +47,15 @@ public class UserServiceTest {
     @Mock
     UserRepository userRepository;
 
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    @Mock
+    Consumer<UserDto> consumer;
+
     UserDto userDto1;
 
     User user1;
@@ -46,7 +65,8 @@ public class UserServiceTest {
 
         userMapper = new UserMapper();
 
-        userService = new UserServiceImpl(userRepository, userMapper);
+        userService = new UserServiceImpl(userRepository, userMapper, eventPublisher,
+                new TransactionTemplate(transactionManager));
 
         userDto1 = new UserDto();
         userDto1.setName("Mia");
@@ -157,6 +177,31 @@ public class UserServiceTest {
         assertEquals(1, users.size());
     }
 
+    @Test
+    @DisplayName("UserService_streamAll")
+    void testStreamAll() {
+        when(userRepository.findAllByIdGreaterThanOrderById(0, Limit.of(500))).thenReturn(List.of(user1));
+
+        userService.streamAll(consumer);
+
+        final InOrder order = inOrder(transactionManager, consumer);
+        order.verify(transactionManager).commit(any());
+        order.verify(consumer).accept(userMapper.toUserDto(user1));
+    }
+
+    @Test
+    @DisplayName("UserService_streamAllByChunks")
+    void testStreamAllByChunks() {
+        final List<User> first = IntStream.rangeClosed(1, 500).mapToObj(UserServiceTest::user).toList();
+        when(userRepository.findAllByIdGreaterThanOrderById(0, Limit.of(500))).thenReturn(first);
+        when(userRepository.findAllByIdGreaterThanOrderById(500, Limit.of(500))).thenReturn(List.of(user(501)));
+
+        userService.streamAll(consumer);
+
+        verify(consumer, times(501)).accept(any());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
     @Test
     @DisplayName("UserService_deleteNotUser")
     void testDeleteNotUser() {
@@ -176,5 +221,14 @@ public class UserServiceTest {
         userService.delete(1);
 
         verify(userRepository).delete(any(User.class));
+        verify(eventPublisher).publishEvent(new UserDeletedEvent(1));
+    }
+
+    private static User user(final int id) {
+        final User user = new User();
+        user.setId(id);
+        user.setName("User " + id);
+        user.setEmail("user" + id + "@mail.ru");
+        return user;
     }
 }